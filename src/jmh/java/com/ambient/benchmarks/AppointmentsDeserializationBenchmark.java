@@ -0,0 +1,44 @@
+package com.ambient.benchmarks;
+
+import com.ambient.api.models.Appointments;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson deserialization of {@link Appointments} payloads of increasing size,
+ * the same mapping {@code RestCall} performs on every query response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppointmentsDeserializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int items;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        payload = BenchmarkFixtures.appointmentsJson(items).getBytes();
+    }
+
+    @Benchmark
+    public Appointments deserialize() throws Exception {
+        return BenchmarkFixtures.MAPPER.readValue(payload, Appointments.class);
+    }
+}
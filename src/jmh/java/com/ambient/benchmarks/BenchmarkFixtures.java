@@ -0,0 +1,87 @@
+package com.ambient.benchmarks;
+
+import com.ambient.api.models.Appointments;
+import com.ambient.api.models.Item;
+import com.ambient.api.models.Meta;
+import com.ambient.api.models.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shared fixtures for the benchmarks: synthetic API payloads and a stub WebDriver
+ * that answers every lookup with a visible element, so page objects can be built without a browser.
+ */
+final class BenchmarkFixtures {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Builds an {@code /v1/appointments/query} style JSON payload with the given number of items.
+     */
+    static String appointmentsJson(int itemCount) throws JsonProcessingException {
+        List<Item> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Item item = new Item();
+            item.setId("appt-" + i);
+            item.setEtag("etag-" + i);
+            item.setPatient_name("Patient Number " + i);
+            item.setScheduled_start("2025-07-08T14:30");
+            item.setScheduled_end("2025-07-08T15:00");
+            item.setNotes("test notes - [run-bench] Lorem ipsum dolor sit amet, consectetur adipiscing elit.");
+            items.add(item);
+        }
+        Meta meta = new Meta();
+        meta.setTotal_count(itemCount);
+        meta.setPage_count(1);
+        meta.setCount_per_page(itemCount);
+        meta.setCtag("ctag-" + itemCount);
+        Status status = new Status();
+        status.setCode(200);
+
+        Appointments appointments = new Appointments();
+        appointments.setItems(items);
+        appointments.setMeta(meta);
+        appointments.setStatus(status);
+        return MAPPER.writeValueAsString(appointments);
+    }
+
+    /**
+     * Returns a WebDriver whose element lookups always succeed with a displayed element.
+     */
+    static WebDriver stubDriver() {
+        WebElement element = (WebElement) Proxy.newProxyInstance(
+                BenchmarkFixtures.class.getClassLoader(),
+                new Class<?>[]{WebElement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "isDisplayed", "isEnabled" -> true;
+                    case "findElements" -> Collections.emptyList();
+                    case "toString" -> "StubElement";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+        return (WebDriver) Proxy.newProxyInstance(
+                BenchmarkFixtures.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findElement" -> element;
+                    case "findElements" -> List.of(element);
+                    case "getCurrentUrl" -> "about:blank";
+                    case "toString" -> "StubDriver";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,54 @@
+package com.ambient.benchmarks;
+
+import com.ambient.ui.WebUser;
+import com.ambient.ui.pages.AmbientLandingPage;
+import com.ambient.ui.pages.AppointmentConfirmationPage;
+import com.ambient.ui.pages.NewAppointmentPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WebUser#getPage(Class)} page-object construction (reflection, PageFactory
+ * proxies and readiness waits) against a stub driver, isolating framework overhead from the browser.
+ * Frontend performance capture, network capture and locator profiling are switched off, since against
+ * a stub driver they would only time their own fallbacks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dambient.ui.perf.enabled=false", "-Dambient.ui.network.capture=false",
+        "-Dambient.ui.network.profile=none", "-Dambient.ui.locators.profile=false"})
+public class PageObjectBenchmark {
+
+    @Setup
+    public void setUp() {
+        WebUser.build(BenchmarkFixtures.stubDriver());
+    }
+
+    @Benchmark
+    public AmbientLandingPage landingPage() {
+        return WebUser.getPage(AmbientLandingPage.class);
+    }
+
+    @Benchmark
+    public NewAppointmentPage newAppointmentPage() {
+        return WebUser.getPage(NewAppointmentPage.class);
+    }
+
+    @Benchmark
+    public AppointmentConfirmationPage confirmationPage() {
+        return WebUser.getPage(AppointmentConfirmationPage.class);
+    }
+}
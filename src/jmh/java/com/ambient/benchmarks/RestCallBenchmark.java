@@ -0,0 +1,74 @@
+package com.ambient.benchmarks;
+
+import com.ambient.api.client.RestCall;
+import com.ambient.api.client.Services;
+import com.ambient.api.models.Appointments;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link RestCall#getRequest(String, Class)} path (request building, circuit checks, latency
+ * recording, response handling and deserialization) against an in-process HTTP server, so network
+ * latency does not drown out client-side cost. Request logging and the Allure filter are switched off:
+ * they write to the console and the report rather than exercising the client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dorg.slf4j.simpleLogger.defaultLogLevel=warn", "-Dsun.net.httpserver.nodelay=true",
+        "-Dambient.api.log.requests=false"})
+public class RestCallBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int items;
+
+    private HttpServer server;
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] payload = BenchmarkFixtures.appointmentsJson(items).getBytes();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/appointments/query", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(payload);
+            }
+        });
+        server.start();
+
+        System.setProperty("ambient.api.baseurl", "http://127.0.0.1:" + server.getAddress().getPort());
+        new Services();
+        // RestCall registers the Allure filter on first use; outside a test it only adds overhead
+        RestAssured.replaceFiltersWith(List.of());
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Benchmark
+    public Appointments getQuery() {
+        return RestCall.getRequest("/v1/appointments/query", Appointments.class);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ambient.benchmarks;
+
+import com.ambient.utils.data.DateTimeHelper;
+import com.ambient.utils.data.NameHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the test-data helpers used to build every appointment request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestDataGenerationBenchmark {
+
+    @Benchmark
+    public String randomFullName() {
+        return NameHelper.generateRandomFullName();
+    }
+
+    @Benchmark
+    public String notes() {
+        return NameHelper.generateNotes();
+    }
+
+    @Benchmark
+    public String currentDateTime() {
+        return DateTimeHelper.getCurrentDateTimeInIsoFormat();
+    }
+
+    @Benchmark
+    public String dateTimePlus30Minutes() {
+        return DateTimeHelper.getDateTimePlus30MinutesInIsoFormat();
+    }
+}
@@ -0,0 +1,156 @@
+package com.ambient.api.client;
+
+import com.ambient.utils.config.AppConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Polls until a condition holds, spacing polls by how long the condition usually takes to become true.
+ *
+ * <p>Each poller keeps a moving average of its recent wait times. The first poll is immediate; the next ones
+ * start at a quarter of that average and grow by half each time, between {@code ambient.api.await.min.interval.ms}
+ * (default 25) and {@code ambient.api.await.max.interval.ms} (default 1000). Short propagation delays are caught
+ * within a few milliseconds, long ones without hammering the backend, and the median wait follows the real delay
+ * rather than a fixed sleep. Settings are read when a poller is first used.</p>
+ *
+ * <p>A poll returning null means "nothing new" (e.g. 304 Not Modified) and skips the condition.</p>
+ */
+@Slf4j
+public class AdaptivePoller {
+
+    private static final Map<String, AdaptivePoller> pollers = new ConcurrentHashMap<>();
+    private static final double SMOOTHING = 0.2;
+
+    private final String name;
+    private final long timeoutMs;
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+    private final LatencyHistogram waits = new LatencyHistogram();
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private volatile double expectedWaitMs;
+
+    private AdaptivePoller(String name) {
+        this(name, AppConfig.getIntProperty("ambient.api.await.initial.wait.ms", 200),
+                AppConfig.getIntProperty("ambient.api.await.min.interval.ms", 25),
+                AppConfig.getIntProperty("ambient.api.await.max.interval.ms", 1000),
+                AppConfig.getIntProperty("ambient.api.await.timeout.ms", 10000));
+    }
+
+    private AdaptivePoller(String name, long initialWaitMs, long minIntervalMs, long maxIntervalMs, long timeoutMs) {
+        this.name = name;
+        this.expectedWaitMs = initialWaitMs;
+        this.minIntervalMs = Math.max(1, minIntervalMs);
+        this.maxIntervalMs = Math.max(this.minIntervalMs, maxIntervalMs);
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Returns the poller with the given name; wait statistics are learned per name.
+     *
+     * @param name what is being awaited, e.g. "appointments"
+     * @return the shared poller
+     */
+    public static AdaptivePoller of(String name) {
+        return pollers.computeIfAbsent(name, AdaptivePoller::new);
+    }
+
+    /**
+     * Returns the poller with the given name, creating it with explicit settings instead of the configured ones.
+     * The settings only apply when the poller does not exist yet.
+     *
+     * @param name          what is being awaited
+     * @param initialWaitMs expected wait before any wait was learned
+     * @param minIntervalMs shortest interval between polls
+     * @param maxIntervalMs longest interval between polls
+     * @param timeoutMs     how long {@link #await} polls before giving up
+     * @return the shared poller
+     */
+    static AdaptivePoller of(String name, long initialWaitMs, long minIntervalMs, long maxIntervalMs, long timeoutMs) {
+        return pollers.computeIfAbsent(name, k -> new AdaptivePoller(k, initialWaitMs, minIntervalMs, maxIntervalMs, timeoutMs));
+    }
+
+    /**
+     * Forgets a poller and its statistics, so it no longer appears in the {@link #summary()}.
+     *
+     * @param name the poller's name
+     */
+    static void remove(String name) {
+        pollers.remove(name);
+    }
+
+    /**
+     * Polls until the condition holds or the timeout ({@code ambient.api.await.timeout.ms}, default 10000) expires.
+     *
+     * @param description what the condition checks, used in the timeout message
+     * @param poll        fetches the current value, or null when nothing changed since the last poll
+     * @param condition   condition over the polled value
+     * @param <T>         type of the polled value
+     * @return the first polled value satisfying the condition
+     * @throws AssertionError if the condition does not hold within the timeout
+     */
+    public <T> T await(String description, Supplier<T> poll, Predicate<T> condition) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        double intervalMs = Math.min(maxIntervalMs, Math.max(minIntervalMs, expectedWaitMs / 4));
+        int attempts = 0;
+        while (true) {
+            attempts++;
+            polls.increment();
+            T value = poll.get();
+            if (value != null && condition.test(value)) {
+                long waited = System.nanoTime() - start;
+                waits.record(waited);
+                learn(waited / 1e6);
+                log.info("'{}' {} after {} ms ({} poll(s))", name, description, waited / 1_000_000, attempts);
+                return value;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                timeouts.increment();
+                throw new AssertionError(String.format("Timed out after %d ms waiting until %s %s (%d poll(s))",
+                        timeoutMs, name, description, attempts));
+            }
+            try {
+                Thread.sleep(Math.min((long) intervalMs, TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("Interrupted waiting until " + name + " " + description, e);
+            }
+            intervalMs = Math.min(maxIntervalMs, intervalMs * 1.5);
+        }
+    }
+
+    /**
+     * Folds a completed wait into the moving average. Pollers are shared across test threads, so the
+     * read-modify-write is synchronized; {@link #await} only reads the volatile field.
+     */
+    private synchronized void learn(double waitedMs) {
+        expectedWaitMs += SMOOTHING * (waitedMs - expectedWaitMs);
+    }
+
+    /**
+     * Summarizes the waits of every poller: count, median and p95 wait, polls per wait and timeouts.
+     *
+     * @return one line per poller, or an empty string if nothing was awaited
+     */
+    public static String summary() {
+        StringBuilder summary = new StringBuilder();
+        pollers.values().stream()
+                .filter(poller -> poller.polls.sum() > 0)
+                .sorted((a, b) -> a.name.compareTo(b.name))
+                .forEach(poller -> {
+                    long count = poller.waits.getCount();
+                    summary.append(String.format("%s: %d wait(s), median %.0f ms, p95 %.0f ms, %.1f poll(s)/wait, %d timeout(s)%n",
+                            poller.name, count, poller.waits.getPercentileMillis(50), poller.waits.getPercentileMillis(95),
+                            (double) poller.polls.sum() / Math.max(1, count + poller.timeouts.sum()), poller.timeouts.sum()));
+                });
+        return summary.toString();
+    }
+}
@@ -0,0 +1,186 @@
+package com.ambient.api.client;
+
+import com.ambient.utils.config.AppConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Client-side circuit breaker guarding calls to an unhealthy backend.
+ *
+ * <p>A circuit starts {@link State#CLOSED}. After {@code ambient.api.circuit.failure.threshold} consecutive
+ * failures (default 5) it opens and rejects calls immediately for {@code ambient.api.circuit.open.seconds}
+ * (default 30). The first call after that is let through as a probe ({@link State#HALF_OPEN}): success closes
+ * the circuit, failure opens it again. Circuits are disabled with {@code ambient.api.circuit.enabled=false}.</p>
+ *
+ * <p>{@link RestCall} keeps one circuit per base URL, which only counts calls that got no response at all,
+ * and one per method and endpoint, which also counts 5xx responses.</p>
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    /**
+     * Circuit states.
+     */
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final Map<String, CircuitBreaker> circuits = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private int timesOpened;
+    private String lastFailure;
+
+    private CircuitBreaker(String name) {
+        this(name, AppConfig.getIntProperty("ambient.api.circuit.failure.threshold", 5),
+                TimeUnit.SECONDS.toMillis(AppConfig.getIntProperty("ambient.api.circuit.open.seconds", 30)));
+    }
+
+    private CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, openMillis));
+    }
+
+    /**
+     * Returns the circuit with the given name, creating a closed one on first use.
+     *
+     * @param name circuit name, e.g. a base URL or {@code "GET http://host/v1/appointments/{id}"}
+     * @return the shared circuit
+     */
+    public static CircuitBreaker of(String name) {
+        return circuits.computeIfAbsent(name, CircuitBreaker::new);
+    }
+
+    /**
+     * Returns the circuit with the given name, creating it with explicit settings instead of the configured ones.
+     * The settings only apply when the circuit does not exist yet.
+     *
+     * @param name             circuit name
+     * @param failureThreshold consecutive failures that open the circuit
+     * @param openMillis       how long an open circuit rejects calls before letting a probe through
+     * @return the shared circuit
+     */
+    static CircuitBreaker of(String name, int failureThreshold, long openMillis) {
+        return circuits.computeIfAbsent(name, k -> new CircuitBreaker(k, failureThreshold, openMillis));
+    }
+
+    /**
+     * Forgets a circuit, so it no longer appears in the {@link #summary()}.
+     *
+     * @param name the circuit's name
+     */
+    static void remove(String name) {
+        circuits.remove(name);
+    }
+
+    /**
+     * Checks whether circuit breaking is switched on.
+     */
+    static boolean isEnabled() {
+        return AppConfig.getBooleanProperty("ambient.api.circuit.enabled", true);
+    }
+
+    /**
+     * Asks permission for a call. An open circuit whose wait has elapsed lets exactly one probe call through.
+     *
+     * @return true if the call may proceed
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAtNanos >= openNanos) {
+                    state = State.HALF_OPEN;
+                    log.info("Circuit '{}' half-open, probing", name);
+                    return true;
+                }
+                return false;
+            default:
+                // A probe is already in flight
+                return false;
+        }
+    }
+
+    /**
+     * Returns an acquired probe without an outcome, e.g. when another circuit rejected the call.
+     * The next call may probe again straight away.
+     */
+    public synchronized void abandon() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime() - openNanos;
+        }
+    }
+
+    /**
+     * Records a successful call and closes the circuit.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            log.info("Circuit '{}' closed", name);
+            state = State.CLOSED;
+        }
+    }
+
+    /**
+     * Records a failed call, opening the circuit when the threshold is reached or a probe failed.
+     *
+     * @param reason short description of the failure
+     */
+    public synchronized void onFailure(String reason) {
+        consecutiveFailures++;
+        lastFailure = reason;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+            timesOpened++;
+            log.error("Circuit '{}' opened after {} consecutive failure(s), last: {}", name, consecutiveFailures, reason);
+        }
+    }
+
+    /**
+     * Checks whether calls are currently being rejected, i.e. the circuit is open and not yet due for a probe.
+     */
+    public synchronized boolean isOpen() {
+        return state == State.OPEN && System.nanoTime() - openedAtNanos < openNanos;
+    }
+
+    /**
+     * Describes the circuit's state, its last failure and, when open, when the next probe is due.
+     */
+    public synchronized String describe() {
+        if (state == State.CLOSED) {
+            return String.format("circuit '%s' is CLOSED (last failure: %s)", name, lastFailure);
+        }
+        long retryInMs = Math.max(0, TimeUnit.NANOSECONDS.toMillis(openNanos - (System.nanoTime() - openedAtNanos)));
+        return String.format("circuit '%s' is %s after %d consecutive failure(s) (last: %s), next probe in %d ms",
+                name, state, consecutiveFailures, lastFailure, retryInMs);
+    }
+
+    /**
+     * Lists every circuit that opened during the run.
+     *
+     * @return one line per circuit, or an empty string if none opened
+     */
+    public static String summary() {
+        return circuits.values().stream()
+                .filter(circuit -> circuit.getTimesOpened() > 0)
+                .map(circuit -> circuit.getTimesOpened() + "x opened, now " + circuit.describe())
+                .sorted()
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private synchronized int getTimesOpened() {
+        return timesOpened;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ambient.api.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Result of a conditional GET: either a changed body with its entity tag, or "not modified".
+ *
+ * @param <T> type of the response body
+ */
+@Data
+@AllArgsConstructor
+public class ConditionalResponse<T> {
+
+    /** False when the server answered 304 Not Modified; the body is then null */
+    private boolean modified;
+
+    /** Deserialized body of a modified response */
+    private T body;
+
+    /** Entity tag from the response's ETag header, if the server sent one */
+    private String etag;
+}
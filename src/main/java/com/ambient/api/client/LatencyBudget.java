@@ -0,0 +1,27 @@
+package com.ambient.api.client;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a latency SLA for a service method, checked against every call recorded during the run.
+ *
+ * <pre>
+ * &#64;LatencyBudget(percentile = 95, millis = 200)
+ * public Appointments getQuery() { ... }
+ * </pre>
+ *
+ * Endpoint-level budgets can also be set in configuration, see {@link LatencyRecorder}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface LatencyBudget {
+
+    /** Percentile the budget applies to, e.g. 95 for p95. */
+    double percentile() default 95;
+
+    /** Maximum allowed latency at that percentile, in milliseconds. */
+    long millis();
+}
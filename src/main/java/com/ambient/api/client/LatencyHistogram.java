@@ -0,0 +1,104 @@
+package com.ambient.api.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets (16 sub-buckets per power of two, about 6% precision),
+ * safe to record into from any number of threads without contention on a shared lock.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one latency sample.
+     *
+     * @param nanos elapsed time in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts.incrementAndGet(indexOf(micros));
+        count.increment();
+        sumMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    /**
+     * @return number of recorded samples
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return mean latency in milliseconds, or 0 when empty
+     */
+    public double getMeanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0 : sumMicros.sum() / (double) n / 1000;
+    }
+
+    /**
+     * @return highest recorded latency in milliseconds
+     */
+    public double getMaxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * Returns the latency at the given percentile. The value is the upper edge of the bucket holding
+     * the percentile, so it never understates the real latency by more than the bucket precision.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds, or 0 when empty
+     */
+    public double getPercentileMillis(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                long upper = i + 1 < BUCKETS ? lowerBound(i + 1) - 1 : Long.MAX_VALUE;
+                return Math.min(upper, maxMicros.get()) / 1000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        int subBucket = (int) ((micros >>> shift) & (SUB_BUCKETS - 1));
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << shift;
+    }
+}
@@ -0,0 +1,147 @@
+package com.ambient.api.client;
+
+import com.ambient.utils.config.AppConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Times every API call made during a functional run into per-endpoint and per-service-method
+ * {@link LatencyHistogram}s, and checks them against latency budgets at suite end.
+ *
+ * <p>Budgets come from two places:</p>
+ * <ul>
+ *     <li>{@link LatencyBudget} on {@code com.ambient.api.services} methods</li>
+ *     <li>configuration keys {@code ambient.api.sla.<METHOD>.<path>=p<percentile>:<millis>[,...]}, e.g.
+ *     {@code ambient.api.sla.GET./v1/appointments/query=p95:200,p99:500}</li>
+ * </ul>
+ * <p>Path segments that look like ids are normalized to {@code {id}}, so calls to different records share a histogram.
+ * Only the HTTP exchange is timed, without request logging and reporting filters; conditional requests
+ * ({@code If-None-Match}, {@code 304 Not Modified}) are not recorded.</p>
+ */
+@Slf4j
+public class LatencyRecorder {
+
+    private static final String SERVICES_PACKAGE = "com.ambient.api.services.";
+    private static final Pattern ID_SEGMENT = Pattern.compile("\\d+|[0-9a-fA-F-]{16,}|[\\w-]*\\d[\\w-]*");
+    private static final Pattern VERSION_SEGMENT = Pattern.compile("v\\d+");
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final Map<String, LatencyHistogram> endpoints = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> serviceMethods = new ConcurrentHashMap<>();
+    private static final Map<String, Optional<LatencyBudget>> methodBudgets = new ConcurrentHashMap<>();
+
+    private LatencyRecorder() {
+        // Utility class
+    }
+
+    /**
+     * Records one API call, attributing it to its endpoint and to the service method that made it.
+     *
+     * @param httpMethod HTTP method name
+     * @param endpoint   relative endpoint that was called
+     * @param nanos      elapsed time in nanoseconds
+     */
+    public static void record(String httpMethod, String endpoint, long nanos) {
+        endpoints.computeIfAbsent(httpMethod + " " + normalize(endpoint), k -> new LatencyHistogram()).record(nanos);
+
+        WALKER.walk(frames -> frames
+                        .filter(frame -> frame.getClassName().startsWith(SERVICES_PACKAGE))
+                        .findFirst())
+                .ifPresent(frame -> {
+                    String key = frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName();
+                    methodBudgets.computeIfAbsent(key, k -> findBudget(frame.getDeclaringClass(), frame.getMethodName()));
+                    serviceMethods.computeIfAbsent(key, k -> new LatencyHistogram()).record(nanos);
+                });
+    }
+
+    /**
+     * Evaluates every histogram against its budgets.
+     *
+     * @return one result per recorded endpoint and service method, with budget results where configured
+     */
+    public static List<SlaResult> evaluate() {
+        Map<String, List<double[]>> endpointBudgets = endpointBudgets();
+        List<SlaResult> results = new ArrayList<>();
+        new TreeMap<>(endpoints).forEach((key, histogram) ->
+                results.add(SlaResult.of(key, histogram, endpointBudgets.getOrDefault(key, List.of()))));
+        new TreeMap<>(serviceMethods).forEach((key, histogram) -> results.add(SlaResult.of(key, histogram,
+                methodBudgets.getOrDefault(key, Optional.empty())
+                        .map(b -> List.of(new double[]{b.percentile(), b.millis()}))
+                        .orElse(List.of()))));
+        return results;
+    }
+
+    /**
+     * Renders the evaluation as a fixed-width table for logs and Allure.
+     *
+     * @param results output of {@link #evaluate()}
+     * @return the table, or an empty string when no calls were recorded
+     */
+    public static String toTable(List<SlaResult> results) {
+        if (results.isEmpty()) {
+            return "";
+        }
+        StringBuilder table = new StringBuilder(String.format("%-44s %7s %9s %9s %9s %9s %9s  %s%n",
+                "Endpoint / method", "calls", "mean", "p50", "p95", "p99", "max", "budget"));
+        for (SlaResult r : results) {
+            table.append(String.format("%-44s %7d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n", r.getName(), r.getCount(),
+                    r.getMeanMs(), r.getP50Ms(), r.getP95Ms(), r.getP99Ms(), r.getMaxMs(), r.getBudgetSummary()));
+        }
+        return table.toString();
+    }
+
+    static String normalize(String endpoint) {
+        String path = endpoint.split("\\?", 2)[0];
+        StringBuilder normalized = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            boolean id = ID_SEGMENT.matcher(segment).matches() && !VERSION_SEGMENT.matcher(segment).matches();
+            normalized.append('/').append(id ? "{id}" : segment);
+        }
+        return normalized.length() == 0 ? "/" : normalized.toString();
+    }
+
+    private static Optional<LatencyBudget> findBudget(Class<?> type, String methodName) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getName().equals(methodName) && method.isAnnotationPresent(LatencyBudget.class)) {
+                return Optional.of(method.getAnnotation(LatencyBudget.class));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Parses {@code ambient.api.sla.*} keys into {percentile, millis} pairs keyed like the endpoint histograms.
+     */
+    private static Map<String, List<double[]>> endpointBudgets() {
+        Map<String, List<double[]>> budgets = new TreeMap<>();
+        AppConfig.getPropertiesWithPrefix("ambient.api.sla.").forEach((key, value) -> {
+            int dot = key.indexOf('.');
+            if (dot < 0) {
+                log.warn("Ignoring latency budget '{}': expected <METHOD>.<path>", key);
+                return;
+            }
+            String endpoint = key.substring(0, dot).toUpperCase() + " " + normalize(key.substring(dot + 1));
+            for (String limit : value.split(",")) {
+                String[] parts = limit.trim().replaceFirst("^[pP]", "").split(":");
+                try {
+                    budgets.computeIfAbsent(endpoint, k -> new ArrayList<>())
+                            .add(new double[]{Double.parseDouble(parts[0]), Double.parseDouble(parts[1])});
+                } catch (RuntimeException e) {
+                    log.warn("Ignoring latency budget '{}={}': expected p<percentile>:<millis>", key, limit);
+                }
+            }
+        });
+        return budgets;
+    }
+}
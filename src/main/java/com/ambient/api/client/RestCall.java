@@ -1,41 +1,89 @@
 package com.ambient.api.client;
 
+import com.ambient.utils.config.AppConfig;
+import com.ambient.utils.jfr.ApiCallEvent;
 import io.qameta.allure.Step;
 import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.http.ContentType;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Abstract base class for REST API interactions using RestAssured.
  * Sets up the base URL, configures request/response logging,
  * and applies Allure filters for enhanced reporting.
+ *
+ * <p>Calls go through {@link CircuitBreaker}s, so an unreachable or failing backend is detected after a few
+ * calls and later calls are rejected at once instead of each waiting out its own timeout. Connect and read
+ * timeouts are set by {@code ambient.api.connect.timeout.ms} (default 5000) and
+ * {@code ambient.api.read.timeout.ms} (default 30000).</p>
  */
 @Slf4j
 public abstract class RestCall {
 
     protected static String baseUrl;
 
+    private static boolean configured;
+
     /**
      * Initializes the RestCall with a base URL and configures RestAssured settings.
+     * RestAssured's settings are global, so they are applied once per base URL rather than
+     * per instance; parallel tests would otherwise stack duplicate filters.
      *
      * @param baseUrl Base URL of the API (e.g., https://api.example.com)
      */
     protected RestCall(String baseUrl) {
-        RestCall.baseUrl = baseUrl;
-        RestAssured.filters(new AllureRestAssured());  // Attach Allure reporting filter
-        RestAssured.baseURI = baseUrl;                  // Set base URI for requests
-        configureRestAssured();
+        synchronized (RestCall.class) {
+            if (configured && Objects.equals(baseUrl, RestCall.baseUrl)) {
+                return;
+            }
+            RestCall.baseUrl = baseUrl;
+            if (!configured) {
+                RestAssured.filters(new AllureRestAssured());  // Attach Allure reporting filter
+            }
+            RestAssured.baseURI = baseUrl;                  // Set base URI for requests
+            configureRestAssured();
+            configured = true;
+        }
     }
 
     /**
      * Configures RestAssured to enable detailed logging of request and response
-     * if the validation fails, helping with debugging test failures.
+     * if the validation fails, helping with debugging test failures, and bounds
+     * how long a call may wait on an unresponsive backend.
      */
     private void configureRestAssured() {
         RestAssured.config = RestAssured.config()
                 .logConfig(io.restassured.config.LogConfig.logConfig()
-                        .enableLoggingOfRequestAndResponseIfValidationFails());
+                        .enableLoggingOfRequestAndResponseIfValidationFails())
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .setParam("http.connection.timeout", AppConfig.getIntProperty("ambient.api.connect.timeout.ms", 5000))
+                        .setParam("http.socket.timeout", AppConfig.getIntProperty("ambient.api.read.timeout.ms", 30000)));
+    }
+
+    /**
+     * Checks whether the backend is considered reachable, i.e. its base URL circuit is not open.
+     *
+     * @return false once repeated calls to the base URL got no response at all
+     */
+    public static boolean isBackendAvailable() {
+        String url = baseUrl;
+        return url == null || !CircuitBreaker.isEnabled() || !CircuitBreaker.of(url).isOpen();
+    }
+
+    /**
+     * Describes why the backend is considered unavailable.
+     */
+    public static String describeBackend() {
+        return baseUrl == null ? "no API calls made" : CircuitBreaker.of(baseUrl).describe();
     }
 
     /**
@@ -52,34 +100,194 @@ public abstract class RestCall {
     @Step("GET request to endpoint: {endpoint}")
     public static <T> T getRequest(String endpoint, Class<T> responseType) {
         try {
-            String fullUrl = baseUrl + endpoint;
+            return mapResponse(send(Method.GET, endpoint, null), endpoint, responseType);
+        } catch (Exception e) {
+            log.error("Exception during GET request to {}: {}", endpoint, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Sends a POST request with a JSON body to the given API endpoint and maps the
+     * response body into an instance of the specified class type.
+     *
+     * @param endpoint     Relative URL endpoint (e.g., "/v1/appointments")
+     * @param body         Request payload, serialized to JSON
+     * @param responseType Class type to deserialize the JSON response into
+     * @param <T>          Type of the response object
+     * @return Deserialized response object if status code is 2xx; otherwise, returns null
+     */
+    @Step("POST request to endpoint: {endpoint}")
+    public static <T> T postRequest(String endpoint, Object body, Class<T> responseType) {
+        try {
+            return mapResponse(send(Method.POST, endpoint, body), endpoint, responseType);
+        } catch (Exception e) {
+            log.error("Exception during POST request to {}: {}", endpoint, e.getMessage());
+            return null;
+        }
+    }
 
-            log.info("\n==================== [API CALL] ====================");
-            log.info("→ Calling GET Request");
-            log.info("→ Endpoint: {}", fullUrl);
-            log.info("====================================================");
+    /**
+     * Sends a conditional GET request: when {@code etag} is given it is sent as {@code If-None-Match}, and a
+     * {@code 304 Not Modified} answer skips reading and deserializing the body.
+     *
+     * @param endpoint     Relative URL endpoint (e.g., "/v1/appointments/query")
+     * @param etag         Entity tag from a previous response, or null for an unconditional request
+     * @param responseType Class type to deserialize the JSON response into
+     * @param <T>          Type of the response object
+     * @return the response, marked unmodified on 304; null if the request fails
+     */
+    @Step("Conditional GET request to endpoint: {endpoint}")
+    public static <T> ConditionalResponse<T> getRequestIfChanged(String endpoint, String etag, Class<T> responseType) {
+        try {
+            Response response = send(Method.GET, endpoint, null,
+                    etag == null ? Map.of() : Map.of("If-None-Match", etag));
+            if (etag != null && response.getStatusCode() == 304) {
+                return new ConditionalResponse<>(false, null, etag);
+            }
+            T body = mapResponse(response, endpoint, responseType);
+            return body == null ? null : new ConditionalResponse<>(true, body, response.getHeader("ETag"));
+        } catch (Exception e) {
+            log.error("Exception during conditional GET request to {}: {}", endpoint, e.getMessage());
+            return null;
+        }
+    }
 
-            Response response = RestAssured
-                    .given()
-                    .when()
-                    .log().all() // Log full request details
-                    .get(endpoint);
+    /**
+     * Sends a DELETE request to the given API endpoint.
+     *
+     * @param endpoint Relative URL endpoint (e.g., "/v1/appointments/42")
+     * @return true if the status code is 2xx; otherwise, false
+     */
+    @Step("DELETE request to endpoint: {endpoint}")
+    public static boolean deleteRequest(String endpoint) {
+        try {
+            return isSuccessful(send(Method.DELETE, endpoint, null), endpoint);
+        } catch (Exception e) {
+            log.error("Exception during DELETE request to {}: {}", endpoint, e.getMessage());
+            return false;
+        }
+    }
 
-            log.info("\n================== [API RESPONSE] ==================");
-            log.info("← Status Code: {}", response.getStatusCode());
-            String prettyJson = response.getBody().asPrettyString();
-            log.info("← Body:\n{}", prettyJson);
-            log.info("====================================================");
+    /**
+     * Executes the request without extra headers.
+     */
+    private static Response send(Method method, String endpoint, Object body) {
+        return send(method, endpoint, body, Map.of());
+    }
 
-            if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
-                return response.as(responseType);
-            } else {
-                log.error("GET request to {} failed with status code: {}", endpoint, response.getStatusCode());
-                return null;
+    /**
+     * Executes the request and logs the call and its response.
+     *
+     * @param method   HTTP method to use
+     * @param endpoint Relative URL endpoint
+     * @param body     Optional JSON payload, or null for requests without a body
+     * @param headers  Additional request headers
+     * @return the raw RestAssured response
+     */
+    private static Response send(Method method, String endpoint, Object body, Map<String, String> headers) {
+        String fullUrl = baseUrl + endpoint;
+
+        log.info("\n==================== [API CALL] ====================");
+        log.info("→ Calling {} Request", method);
+        log.info("→ Endpoint: {}", fullUrl);
+        log.info("====================================================");
+
+        // Reject at once while the endpoint or the whole backend is known to be failing
+        boolean circuits = CircuitBreaker.isEnabled();
+        CircuitBreaker route = CircuitBreaker.of(method + " " + baseUrl + LatencyRecorder.normalize(endpoint));
+        CircuitBreaker backend = CircuitBreaker.of(baseUrl);
+        if (circuits) {
+            if (!route.tryAcquire()) {
+                throw new IllegalStateException("Request rejected, " + route.describe());
+            }
+            if (!backend.tryAcquire()) {
+                route.abandon();
+                throw new IllegalStateException("Request rejected, " + backend.describe());
+            }
+        }
+
+        RequestSpecification request = RestAssured.given().headers(headers);
+        if (AppConfig.getBooleanProperty("ambient.api.log.requests", true)) {
+            request.log().all(); // Log full request details
+        }
+        if (body != null) {
+            request.contentType(ContentType.JSON).body(body);
+        }
+
+        ApiCallEvent event = new ApiCallEvent();
+        event.begin();
+        Response response = null;
+        try {
+            response = request
+                    .when()
+                    .request(method, endpoint);
+            // Only calls that got a response count towards latency budgets. RestAssured times the HTTP exchange
+            // itself, so request logging and the Allure filter are not counted. Conditional requests are left out:
+            // a 304 skips the body and would make the endpoint look faster than it is.
+            if (!isConditional(headers) && response.getStatusCode() != 304) {
+                LatencyRecorder.record(method.name(), endpoint, response.getTimeIn(TimeUnit.NANOSECONDS));
             }
         } catch (Exception e) {
-            log.error("Exception during GET request to {}: {}", endpoint, e.getMessage());
-            return null;
+            // No response: connection refused, timeout, unknown host (RestAssured rethrows these unchecked)
+            if (circuits) {
+                backend.onFailure(e.toString());
+                route.onFailure(e.toString());
+            }
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                // Status 0 marks calls that failed without a response, e.g. connection refused
+                event.method = method.name();
+                event.endpoint = endpoint;
+                event.statusCode = response != null ? response.getStatusCode() : 0;
+                event.responseBytes = response != null ? response.getBody().asByteArray().length : 0;
+                event.commit();
+            }
+        }
+
+        if (circuits) {
+            backend.onSuccess();
+            if (response.getStatusCode() >= 500) {
+                route.onFailure("HTTP " + response.getStatusCode());
+            } else {
+                route.onSuccess();
+            }
+        }
+
+        log.info("\n================== [API RESPONSE] ==================");
+        log.info("← Status Code: {}", response.getStatusCode());
+        String prettyJson = response.getBody().asPrettyString();
+        log.info("← Body:\n{}", prettyJson);
+        log.info("====================================================");
+
+        return response;
+    }
+
+    /**
+     * Checks whether a request carries a validator that lets the server answer {@code 304 Not Modified}.
+     */
+    private static boolean isConditional(Map<String, String> headers) {
+        return headers.keySet().stream().anyMatch(name -> name.equalsIgnoreCase("If-None-Match")
+                || name.equalsIgnoreCase("If-Modified-Since"));
+    }
+
+    /**
+     * Deserializes a successful response, or logs the failure and returns null.
+     */
+    private static <T> T mapResponse(Response response, String endpoint, Class<T> responseType) {
+        return isSuccessful(response, endpoint) ? response.as(responseType) : null;
+    }
+
+    /**
+     * Checks for a 2xx status code, logging an error otherwise.
+     */
+    private static boolean isSuccessful(Response response, String endpoint) {
+        if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
+            return true;
         }
+        log.error("Request to {} failed with status code: {}", endpoint, response.getStatusCode());
+        return false;
     }
 }
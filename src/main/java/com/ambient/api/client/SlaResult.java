@@ -0,0 +1,63 @@
+package com.ambient.api.client;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Latency statistics for one endpoint or service method, with the outcome of its budgets.
+ */
+@Data
+public class SlaResult {
+    private String name;
+    private long count;
+    private double meanMs;
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double maxMs;
+    private List<String> budgets = new ArrayList<>();
+    private List<String> violations = new ArrayList<>();
+
+    static SlaResult of(String name, LatencyHistogram histogram, List<double[]> limits) {
+        SlaResult result = new SlaResult();
+        result.setName(name);
+        result.setCount(histogram.getCount());
+        result.setMeanMs(histogram.getMeanMillis());
+        result.setP50Ms(histogram.getPercentileMillis(50));
+        result.setP95Ms(histogram.getPercentileMillis(95));
+        result.setP99Ms(histogram.getPercentileMillis(99));
+        result.setMaxMs(histogram.getMaxMillis());
+        for (double[] limit : limits) {
+            double actual = histogram.getPercentileMillis(limit[0]);
+            String budget = String.format("p%s<%.0fms", formatPercentile(limit[0]), limit[1]);
+            result.getBudgets().add(budget);
+            if (actual > limit[1]) {
+                result.getViolations().add(String.format("%s %s was %.1fms", name, budget, actual));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return true when every budget was met
+     */
+    public boolean isPassed() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * @return budgets with their status, for the summary table
+     */
+    public String getBudgetSummary() {
+        if (budgets.isEmpty()) {
+            return "-";
+        }
+        return String.join(", ", budgets) + (isPassed() ? "  OK" : "  VIOLATED");
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -1,15 +1,43 @@
 package com.ambient.api.services;
 
+import com.ambient.api.client.AdaptivePoller;
+import com.ambient.api.client.ConditionalResponse;
+import com.ambient.api.client.LatencyBudget;
 import com.ambient.api.models.Appointments;
+import com.ambient.api.models.Item;
+import com.ambient.ui.models.AppointmentRequest;
+import com.ambient.utils.config.AppConfig;
 import io.qameta.allure.Step;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static com.ambient.api.client.RestCall.deleteRequest;
 import static com.ambient.api.client.RestCall.getRequest;
+import static com.ambient.api.client.RestCall.getRequestIfChanged;
+import static com.ambient.api.client.RestCall.postRequest;
 
 /**
  * Service class to interact with Appointment-related API endpoints.
  */
+@Slf4j
 public class AppointmentService {
 
+    private static final String APPOINTMENTS_ENDPOINT = "/v1/appointments";
+    private static final String QUERY_ENDPOINT = APPOINTMENTS_ENDPOINT + "/query";
+
     /**
      * Default constructor.
      */
@@ -34,4 +62,223 @@ public class AppointmentService {
             return null;
         }
     }
+
+    /**
+     * Retrieves the appointments of every page of the query endpoint ({@code meta.page_count}), up to
+     * {@code ambient.api.query.max.pages} pages, merged into one result.
+     *
+     * @return all appointments, or null if the first page cannot be fetched
+     */
+    @Step("Get all appointments, every page")
+    public Appointments getQueryAllPages() {
+        Appointments first = getQuery();
+        return first == null ? null : withRemainingPages(first);
+    }
+
+    /**
+     * Waits until the appointments returned by the query endpoint satisfy a condition, e.g. until an appointment
+     * created through the UI has propagated to the API.
+     *
+     * <p>Polls with adaptive backoff (see {@link AdaptivePoller}). After the first fetch, polls send the response's
+     * ETag, or {@code meta.ctag} when there is none, as {@code If-None-Match}, so an unchanged collection costs a
+     * 304 instead of a full fetch. If the server ignores the header, the ctag or item etags are compared and the
+     * condition is only re-evaluated when they changed.</p>
+     *
+     * <p>The query endpoint is paginated ({@code meta.page_count}); when it reports more than one page, the other
+     * pages are fetched too, so the condition sees every appointment. A page's ETag says nothing about the other
+     * pages, so multi-page collections are only polled conditionally on the collection-wide {@code meta.ctag}.</p>
+     *
+     * @param description what the condition checks, e.g. "contain John Doe"
+     * @param condition   condition over the current appointments
+     * @return the first appointments snapshot satisfying the condition
+     * @throws AssertionError if the condition does not hold within {@code ambient.api.await.timeout.ms}
+     */
+    @Step("Wait until appointments {description}")
+    public Appointments awaitAppointments(String description, Predicate<Appointments> condition) {
+        AtomicReference<String> etag = new AtomicReference<>();
+        AtomicReference<String> lastVersion = new AtomicReference<>();
+        return AdaptivePoller.of("appointments").await(description, () -> {
+            ConditionalResponse<Appointments> response = getRequestIfChanged(QUERY_ENDPOINT, etag.get(), Appointments.class);
+            if (response == null || !response.isModified()) {
+                return null;
+            }
+            Appointments appointments = withRemainingPages(response.getBody());
+            String version = versionOf(appointments);
+            boolean paged = appointments.getMeta() != null && appointments.getMeta().getPage_count() > 1;
+            etag.set(!paged && response.getEtag() != null ? response.getEtag() : quoted(ctagOf(appointments)));
+            if (version.equals(lastVersion.getAndSet(version))) {
+                // Server ignored If-None-Match but nothing changed
+                return null;
+            }
+            return appointments;
+        }, condition);
+    }
+
+    /**
+     * Waits until an appointment for the given patient is visible through the API.
+     *
+     * @param patientName patient name as entered in the UI
+     * @return the matching appointment
+     * @throws AssertionError if it does not appear within {@code ambient.api.await.timeout.ms}
+     */
+    @Step("Wait for appointment of {patientName}")
+    public Item awaitAppointmentFor(String patientName) {
+        Predicate<Item> matches = item -> patientName.equals(item.getPatient_name());
+        Appointments appointments = awaitAppointments("contain " + patientName,
+                current -> current.getItems() != null && current.getItems().stream().anyMatch(matches));
+        return appointments.getItems().stream().filter(matches).findFirst().orElseThrow();
+    }
+
+    /**
+     * Creates a single appointment through the API, bypassing the UI form.
+     * Intended for seeding data that a test needs to exist up front.
+     *
+     * @param appointmentRequest appointment details, in the same model the UI form uses
+     * @return the created appointment, or null if the request fails
+     */
+    @Step("Create appointment for {appointmentRequest.patientName}")
+    @LatencyBudget(percentile = 95, millis = 500)
+    public Item createAppointment(AppointmentRequest appointmentRequest) {
+        Item created = postRequest(APPOINTMENTS_ENDPOINT, toPayload(appointmentRequest), Item.class);
+        if (created != null) {
+            // Track the seeded record so it is removed at suite end
+            TestDataRegistry.registerAppointment(created.getId());
+        }
+        return created;
+    }
+
+    /**
+     * Creates several appointments concurrently. The number of in-flight requests is bounded
+     * by {@code ambient.api.seed.threads} (default 8).
+     *
+     * @param appointmentRequests appointments to create
+     * @return the appointments that were created successfully, in request order
+     */
+    @Step("Create appointments in bulk")
+    public List<Item> createAppointments(List<AppointmentRequest> appointmentRequests) {
+        List<Item> created = runConcurrently(appointmentRequests, this::createAppointment);
+        created.removeIf(Objects::isNull);
+        if (created.size() < appointmentRequests.size()) {
+            log.warn("Created {} of {} requested appointments", created.size(), appointmentRequests.size());
+        }
+        return created;
+    }
+
+    /**
+     * Deletes a single appointment by id.
+     *
+     * @param appointmentId id of the appointment to delete
+     * @return true if the appointment was deleted
+     */
+    @Step("Delete appointment {appointmentId}")
+    public boolean deleteAppointment(String appointmentId) {
+        boolean deleted = deleteRequest(APPOINTMENTS_ENDPOINT + "/" + appointmentId);
+        if (deleted) {
+            TestDataRegistry.unregisterAppointment(appointmentId);
+        }
+        return deleted;
+    }
+
+    /**
+     * Deletes several appointments concurrently, bounded the same way as {@link #createAppointments(List)}.
+     *
+     * @param appointmentIds ids of the appointments to delete
+     * @return the number of appointments that were deleted
+     */
+    @Step("Delete appointments in bulk")
+    public int deleteAppointments(Collection<String> appointmentIds) {
+        List<Boolean> results = runConcurrently(new ArrayList<>(appointmentIds), this::deleteAppointment);
+        return (int) results.stream().filter(Boolean.TRUE::equals).count();
+    }
+
+    /**
+     * Applies the given call to every input on a bounded pool and waits for all of them,
+     * preserving input order in the returned list.
+     */
+    private static <I, O> List<O> runConcurrently(List<I> inputs, Function<I, O> call) {
+        List<O> results = new ArrayList<>(inputs.size());
+        if (inputs.isEmpty()) {
+            return results;
+        }
+        int threads = Math.max(1, Math.min(inputs.size(), AppConfig.getIntProperty("ambient.api.seed.threads", 8)));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<O>> futures = new ArrayList<>(inputs.size());
+            for (I input : inputs) {
+                futures.add(CompletableFuture.supplyAsync(() -> call.apply(input), executor));
+            }
+            for (CompletableFuture<O> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Appends the items of the remaining pages to the first page of a query result. Pages are selected with the
+     * {@code ambient.api.query.page.param} query parameter (default {@code page}, numbered from 1), up to
+     * {@code ambient.api.query.max.pages} pages (default 50).
+     */
+    private static Appointments withRemainingPages(Appointments first) {
+        int pages = first.getMeta() == null ? 1 : first.getMeta().getPage_count();
+        if (pages <= 1) {
+            return first;
+        }
+        int maxPages = Math.max(1, AppConfig.getIntProperty("ambient.api.query.max.pages", 50));
+        if (pages > maxPages) {
+            log.warn("Appointments query has {} pages; only the first {} are checked", pages, maxPages);
+        }
+        String pageParam = AppConfig.getProperty("ambient.api.query.page.param", "page");
+        List<Item> items = new ArrayList<>(first.getItems() == null ? List.of() : first.getItems());
+        for (int page = 2; page <= Math.min(pages, maxPages); page++) {
+            Appointments next = getRequest(QUERY_ENDPOINT + "?" + pageParam + "=" + page, Appointments.class);
+            if (next == null) {
+                log.warn("Could not fetch page {} of {} of the appointments query", page, pages);
+                break;
+            }
+            if (next.getItems() != null) {
+                items.addAll(next.getItems());
+            }
+        }
+        first.setItems(items);
+        return first;
+    }
+
+    /**
+     * Identifies a version of the collection: its ctag, or the item etags when the server sends no ctag.
+     */
+    private static String versionOf(Appointments appointments) {
+        String ctag = ctagOf(appointments);
+        if (ctag != null) {
+            return ctag;
+        }
+        return appointments.getItems() == null ? "" : appointments.getItems().stream()
+                .map(item -> item.getId() + ":" + item.getEtag())
+                .collect(Collectors.joining(","));
+    }
+
+    private static String ctagOf(Appointments appointments) {
+        return appointments.getMeta() == null ? null : appointments.getMeta().getCtag();
+    }
+
+    private static String quoted(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        return tag.startsWith("\"") || tag.startsWith("W/") ? tag : "\"" + tag + "\"";
+    }
+
+    /**
+     * Maps the UI-level request model onto the JSON field names used by the appointments API.
+     */
+    private static Map<String, Object> toPayload(AppointmentRequest appointmentRequest) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("patient_name", appointmentRequest.getPatientName());
+        payload.put("scheduled_start", appointmentRequest.getStartTime());
+        payload.put("scheduled_end", appointmentRequest.getEndTime());
+        payload.put("notes", appointmentRequest.getNotes());
+        return payload;
+    }
 }
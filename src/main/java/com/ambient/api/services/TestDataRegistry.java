@@ -0,0 +1,96 @@
+package com.ambient.api.services;
+
+import com.ambient.api.models.Appointments;
+import com.ambient.api.models.Item;
+import com.ambient.utils.config.AppConfig;
+import com.ambient.utils.data.NameHelper;
+import io.qameta.allure.Step;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tracks appointments created during a test run so they can be removed at suite end.
+ *
+ * <p>Appointments seeded through {@link AppointmentService} are registered by id. Appointments
+ * created through the UI are found by the run marker that {@link NameHelper#generateNotes()}
+ * embeds in their notes, searching every page of the appointments query.</p>
+ */
+@Slf4j
+public class TestDataRegistry {
+
+    private static final Set<String> createdAppointmentIds = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean cleanedUp = new AtomicBoolean();
+
+    private TestDataRegistry() {
+        // Utility class
+    }
+
+    /**
+     * Registers an appointment created by this run.
+     *
+     * @param appointmentId id of the created appointment
+     */
+    public static void registerAppointment(String appointmentId) {
+        if (appointmentId != null) {
+            createdAppointmentIds.add(appointmentId);
+        }
+    }
+
+    /**
+     * Stops tracking an appointment that a test already deleted itself.
+     *
+     * @param appointmentId id of the deleted appointment
+     */
+    public static void unregisterAppointment(String appointmentId) {
+        if (appointmentId != null) {
+            createdAppointmentIds.remove(appointmentId);
+        }
+    }
+
+    /**
+     * Deletes every appointment created by this run, in batches of {@code ambient.cleanup.batch.size}
+     * (default 50) with the requests of each batch sent concurrently. Runs at most once per JVM.
+     *
+     * @param appointmentService service used to query and delete appointments
+     * @return the number of appointments deleted
+     */
+    @Step("Clean up appointments created during the run")
+    public static int cleanup(AppointmentService appointmentService) {
+        if (!cleanedUp.compareAndSet(false, true)) {
+            return 0;
+        }
+        long start = System.nanoTime();
+
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ids.addAll(createdAppointmentIds);
+        // UI-created appointments can be on any page of the query
+        Appointments appointments = appointmentService.getQueryAllPages();
+        if (appointments != null && appointments.getItems() != null) {
+            String marker = NameHelper.getRunMarker();
+            for (Item item : appointments.getItems()) {
+                if (item.getNotes() != null && item.getNotes().contains(marker)) {
+                    ids.add(item.getId());
+                }
+            }
+        }
+
+        int batchSize = Math.max(1, AppConfig.getIntProperty("ambient.cleanup.batch.size", 50));
+        List<String> pending = new ArrayList<>(ids);
+        int deleted = 0;
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            deleted += appointmentService.deleteAppointments(
+                    pending.subList(from, Math.min(from + batchSize, pending.size())));
+        }
+        createdAppointmentIds.clear();
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Test data cleanup for run {}: deleted {} of {} appointments in {} ms",
+                NameHelper.getRunMarker(), deleted, pending.size(), elapsedMs);
+        return deleted;
+    }
+}
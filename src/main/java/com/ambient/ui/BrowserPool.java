@@ -0,0 +1,165 @@
+package com.ambient.ui;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Starts browser sessions in the background so UI tests do not pay browser startup on their critical path.
+ *
+ * <p>{@link #prewarm(int, int)} launches up to {@code concurrent} sessions at suite start, while API tests are
+ * already running. Whenever a UI test takes a session, a replacement is launched until {@code total} sessions
+ * have been started, so the next test's browser starts while the current one runs. Further calls, e.g. from a
+ * second UI {@code <test>}, add to the total.</p>
+ *
+ * <p>{@link DriverFactory} asks the pool first. A session that is still starting is waited for rather than
+ * started twice; an empty pool or a failed launch is a miss and the caller starts its own session.
+ * Hits, misses and wait times are reported by {@link #report()}.</p>
+ */
+@Slf4j
+public class BrowserPool {
+
+    private static final Queue<CompletableFuture<WebDriver>> sessions = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger remaining = new AtomicInteger();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder waitNanos = new LongAdder();
+    private static final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0);
+    private static volatile ExecutorService launcher;
+
+    private BrowserPool() {
+        // Utility class
+    }
+
+    /**
+     * Starts pre-warming browser sessions in the background.
+     *
+     * @param total      number of sessions the run is expected to need
+     * @param concurrent maximum number of warm sessions started ahead at once
+     */
+    public static synchronized void prewarm(int total, int concurrent) {
+        if (total <= 0) {
+            return;
+        }
+        if (launcher != null) {
+            remaining.addAndGet(total);
+            log.info("Pre-warming {} more browser session(s)", total);
+            launch();
+            return;
+        }
+        int ahead = Math.max(1, Math.min(total, concurrent));
+        AtomicInteger counter = new AtomicInteger();
+        launcher = Executors.newFixedThreadPool(ahead, runnable -> {
+            Thread thread = new Thread(runnable, "browser-prewarm-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        remaining.set(total);
+        DriverFactory.markUsed();
+        log.info("Pre-warming {} browser session(s), {} ahead", total, ahead);
+        for (int i = 0; i < ahead; i++) {
+            launch();
+        }
+    }
+
+    /**
+     * Hands out a pre-warmed session, waiting for one that is still starting.
+     *
+     * @return a ready session, or null if none is available and the caller should start its own
+     */
+    static WebDriver take() {
+        CompletableFuture<WebDriver> session = sessions.poll();
+        if (session == null) {
+            if (launcher != null) {
+                misses.increment();
+            }
+            return null;
+        }
+        // Keep one session starting ahead of the next test
+        launch();
+
+        long start = System.nanoTime();
+        try {
+            WebDriver webDriver = session.join();
+            long waited = System.nanoTime() - start;
+            waitNanos.add(waited);
+            maxWaitNanos.accumulate(waited);
+            hits.increment();
+            return webDriver;
+        } catch (CompletionException e) {
+            log.warn("Pre-warmed browser failed to start: {}", e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+            misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Returns pre-warm statistics: hits, misses and the time UI tests spent waiting for a session.
+     *
+     * @return a one-line summary, or an empty string if pre-warming was not used
+     */
+    public static String report() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        if (launcher == null && hitCount + missCount == 0) {
+            return "";
+        }
+        double avgWaitMs = hitCount == 0 ? 0 : waitNanos.sum() / 1e6 / hitCount;
+        return String.format("Browser pre-warm: %d hit(s), %d miss(es), wait avg %.0f ms, max %.0f ms",
+                hitCount, missCount, avgWaitMs, maxWaitNanos.get() / 1e6);
+    }
+
+    /**
+     * Stops launching sessions and quits the ones no test picked up.
+     */
+    public static synchronized void shutdown() {
+        if (launcher == null) {
+            return;
+        }
+        remaining.set(0);
+        launcher.shutdown();
+        try {
+            launcher.awaitTermination(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        CompletableFuture<WebDriver> session;
+        int unused = 0;
+        while ((session = sessions.poll()) != null) {
+            WebDriver webDriver = session.getNow(null);
+            if (webDriver != null) {
+                unused++;
+                DriverFactory.quitSession(webDriver);
+            } else {
+                // Still starting or failed; quit it once it is up
+                session.thenAccept(DriverFactory::quitSession);
+            }
+        }
+        if (unused > 0) {
+            log.info("Quit {} unused pre-warmed browser session(s)", unused);
+        }
+    }
+
+    private static void launch() {
+        ExecutorService executor = launcher;
+        if (executor == null || remaining.getAndUpdate(n -> Math.max(0, n - 1)) <= 0) {
+            return;
+        }
+        try {
+            sessions.add(CompletableFuture.supplyAsync(DriverFactory::createSession, executor));
+        } catch (RuntimeException e) {
+            // Executor already shut down at suite end
+            log.debug("Skipping browser pre-warm: {}", e.getMessage());
+        }
+    }
+}
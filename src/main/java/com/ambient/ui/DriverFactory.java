@@ -1,42 +1,138 @@
 package com.ambient.ui;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.ambient.ui.backend.DriverBackend;
+import com.ambient.ui.backend.GridDriverBackend;
+import com.ambient.ui.backend.LocalDriverBackend;
+import com.ambient.ui.network.NetworkCapture;
+import com.ambient.ui.network.NetworkEmulation;
+import com.ambient.ui.perf.LocatorProfiler;
+import com.ambient.utils.config.AppConfig;
+import com.ambient.utils.jfr.DriverLifecycleEvent;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+
+import java.util.logging.Level;
 
 /**
  * DriverFactory manages the lifecycle of thread-safe WebDriver instances.
+ *
+ * <p>Sessions are started by the backend selected with {@code ambient.ui.driver.backend}: {@code local}
+ * (default) runs Chrome on this machine, {@code grid} runs it on the Selenium Grid at {@code ambient.ui.grid.url}.
+ * With {@code ambient.ui.locators.profile=true} tests get a {@link LocatorProfiler} view of the session.</p>
  */
 public class DriverFactory {
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    /** What tests see of the session: the session itself, or its profiled view when locators are profiled */
+    private static final ThreadLocal<WebDriver> view = new ThreadLocal<>();
+    /** Set once the run asks for its first browser session, directly or through pre-warming */
+    private static volatile boolean used;
+
+    /**
+     * Holds the configured backend, created on first use.
+     */
+    private static final class BackendHolder {
+        private static final DriverBackend BACKEND = createBackend();
+    }
+
+    /**
+     * Returns the backend that starts browser sessions for this run.
+     */
+    public static DriverBackend backend() {
+        return BackendHolder.BACKEND;
+    }
+
+    /**
+     * Checks whether the run has started, or begun pre-warming, any browser session.
+     * API-only runs never do, so suite-end browser reports and cleanup can be skipped without touching Selenium.
+     */
+    public static boolean isUsed() {
+        return used;
+    }
+
+    /**
+     * Records that browser sessions are being started for this run.
+     */
+    static void markUsed() {
+        used = true;
+    }
+
+    private static DriverBackend createBackend() {
+        String name = AppConfig.getProperty("ambient.ui.driver.backend", "local");
+        switch (name.toLowerCase()) {
+            case "local":
+                return new LocalDriverBackend();
+            case "grid":
+                return new GridDriverBackend(AppConfig.getProperty("ambient.ui.grid.url", "http://localhost:4444"));
+            default:
+                throw new IllegalArgumentException("Unknown ambient.ui.driver.backend '" + name + "', expected local or grid");
+        }
+    }
 
     /**
      * Initializes the WebDriver instance for the current thread.
-     * Currently supports only ChromeDriver with optional headless configuration.
+     * A pre-warmed session from {@link BrowserPool} is used when available.
      */
     private static void initializeDriver() {
         if (driver.get() == null) {
-            WebDriverManager.chromedriver().setup();
-            ChromeOptions options = new ChromeOptions();
-
-            // Optional: Enable headless mode if needed
-            if (Boolean.getBoolean("headless")) {
-                options.addArguments("--headless=new");
-                options.addArguments("--disable-gpu");
-                options.addArguments("--window-size=1920,1080");
-            }
+            WebDriver webDriver = BrowserPool.take();
+            driver.set(webDriver != null ? webDriver : createSession());
 
-            driver.set(new ChromeDriver(options));
+            // Record browser traffic so UI actions can be correlated with backend calls
+            NetworkCapture.start(driver.get());
+            // Throttle the session to the test's network profile, if any
+            NetworkEmulation.apply(driver.get());
+
+            // DevTools and grid bookkeeping above need the session itself; only tests see the profiled view
+            view.set(LocatorProfiler.isEnabled() ? LocatorProfiler.decorate(driver.get()) : driver.get());
         }
     }
 
+    /**
+     * Starts a new browser session without binding it to a thread.
+     * Currently supports only Chrome with optional headless configuration, started on the configured backend.
+     *
+     * @return the started WebDriver
+     */
+    static WebDriver createSession() {
+        markUsed();
+        ChromeOptions options = new ChromeOptions();
+
+        // Optional: Enable headless mode if needed
+        if (Boolean.getBoolean("headless")) {
+            options.addArguments("--headless=new");
+            options.addArguments("--disable-gpu");
+            options.addArguments("--window-size=1920,1080");
+        }
+
+        // Keep browser console output available for failure artifacts
+        LoggingPreferences loggingPreferences = new LoggingPreferences();
+        loggingPreferences.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability("goog:loggingPrefs", loggingPreferences);
+
+        DriverLifecycleEvent event = new DriverLifecycleEvent();
+        event.begin();
+        WebDriver webDriver = backend().create(options);
+        commit(event, "start");
+        return webDriver;
+    }
+
     /**
      * Returns the thread-local WebDriver instance, initializing if necessary.
      */
     public static WebDriver getDriver() {
         initializeDriver();
-        return driver.get();
+        return view.get();
+    }
+
+    /**
+     * Returns the WebDriver already bound to the current thread without creating one.
+     *
+     * @return the current thread's WebDriver, or null if none was created
+     */
+    static WebDriver currentDriver() {
+        return view.get();
     }
 
     /**
@@ -45,8 +141,46 @@ public class DriverFactory {
     public static void quitDriver() {
         WebDriver webDriver = driver.get();
         if (webDriver != null) {
-            webDriver.quit();
-            driver.remove();
+            DriverLifecycleEvent event = new DriverLifecycleEvent();
+            event.begin();
+            try {
+                NetworkCapture.stop();
+                backend().quit(webDriver);
+            } finally {
+                driver.remove();
+                view.remove();
+                NetworkEmulation.release();
+                commit(event, "quit");
+            }
+        }
+    }
+
+    /**
+     * Quits a session that was never bound to a thread, e.g. an unused pre-warmed browser.
+     *
+     * @param webDriver the session to quit
+     */
+    static void quitSession(WebDriver webDriver) {
+        DriverLifecycleEvent event = new DriverLifecycleEvent();
+        event.begin();
+        try {
+            backend().quit(webDriver);
+        } catch (RuntimeException e) {
+            // Browser already gone
+        } finally {
+            commit(event, "quit");
+        }
+    }
+
+    /**
+     * Ends and records a driver lifecycle event if JFR is collecting it.
+     */
+    private static void commit(DriverLifecycleEvent event, String action) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.action = action;
+            event.browser = "chrome";
+            event.commit();
         }
     }
 }
@@ -0,0 +1,99 @@
+package com.ambient.ui;
+
+import com.ambient.ui.pages.BasePage;
+import com.ambient.ui.pages.Route;
+import com.ambient.utils.config.AppConfig;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.BinaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds deep-link URLs for page objects from their {@link Route}.
+ */
+public class PageRoutes {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([^}/]+)}");
+
+    private PageRoutes() {
+        // Utility class
+    }
+
+    /**
+     * Builds the absolute URL of a page under {@code ambient.ui.baseurl}.
+     *
+     * @param page            the page object class
+     * @param queryParameters query parameters, in iteration order; null values are skipped
+     * @param pathParameters  values for the route's {@code {name}} placeholders, in order
+     * @return the encoded URL
+     * @throws IllegalArgumentException if the page has no route or the number of path parameters does not match
+     */
+    public static String url(Class<? extends BasePage> page, Map<String, ?> queryParameters, Object... pathParameters) {
+        return url(AppConfig.getBaseUiUrl(), template(page, AppConfig::getProperty), page, queryParameters, pathParameters);
+    }
+
+    /**
+     * Builds the absolute URL of a page from an explicit base URL and route template.
+     */
+    static String url(String baseUrl, String template, Class<? extends BasePage> page, Map<String, ?> queryParameters,
+                      Object... pathParameters) {
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder path = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            if (index >= pathParameters.length) {
+                throw new IllegalArgumentException(String.format("Route %s of %s has more placeholders than the %d path parameter(s) given",
+                        template, page.getSimpleName(), pathParameters.length));
+            }
+            matcher.appendReplacement(path, Matcher.quoteReplacement(encode(String.valueOf(pathParameters[index++]))));
+        }
+        matcher.appendTail(path);
+        if (index != pathParameters.length) {
+            throw new IllegalArgumentException(String.format("Route %s of %s takes %d path parameter(s), got %d",
+                    template, page.getSimpleName(), index, pathParameters.length));
+        }
+
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        if (queryParameters != null) {
+            queryParameters.forEach((name, value) -> {
+                if (value != null) {
+                    query.add(encode(name) + "=" + encode(String.valueOf(value)));
+                }
+            });
+        }
+        return join(baseUrl, path.toString()) + query;
+    }
+
+    /**
+     * Returns the route template of a page: {@code ambient.ui.route.<SimpleName>} if set, else its {@link Route}.
+     *
+     * @param page       the page object class
+     * @param properties looks up a property, returning the given default when it is not set
+     */
+    static String template(Class<? extends BasePage> page, BinaryOperator<String> properties) {
+        Route route = page.getAnnotation(Route.class);
+        String template = properties.apply("ambient.ui.route." + page.getSimpleName(),
+                route != null ? route.value() : null);
+        if (template == null) {
+            throw new IllegalArgumentException(page.getSimpleName() + " declares no @Route and cannot be opened directly");
+        }
+        return template;
+    }
+
+    /**
+     * Joins a base URL and a path with exactly one slash between them.
+     */
+    static String join(String baseUrl, String path) {
+        String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        return path.startsWith("/") ? base + path : base + "/" + path;
+    }
+
+    private static String encode(String value) {
+        // URLEncoder produces form encoding; spaces must be %20 in paths
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
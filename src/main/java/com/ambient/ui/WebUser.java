@@ -1,11 +1,15 @@
 package com.ambient.ui;
 
+import com.ambient.ui.network.NetworkEmulation;
 import com.ambient.ui.pages.BasePage;
+import com.ambient.ui.perf.FrontendPerformance;
+import com.ambient.utils.jfr.PageLoadEvent;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
 
-import static com.ambient.utils.config.AppConfig.getBaseApiUrl;
 import static com.ambient.utils.config.AppConfig.getBaseUiUrl;
 
 /**
@@ -28,6 +32,17 @@ public class WebUser {
         return new WebUser();
     }
 
+    /**
+     * Binds an already created WebDriver to the current thread and returns a WebUser instance.
+     * Useful when the driver is supplied externally, e.g. a pre-started or stub session.
+     *
+     * @param webDriver the WebDriver to use for the current thread
+     */
+    public static WebUser build(WebDriver webDriver) {
+        driver.set(webDriver);
+        return new WebUser();
+    }
+
     /**
      * Returns the thread-local WebDriver instance.
      */
@@ -39,33 +54,87 @@ public class WebUser {
         return webDriver;
     }
 
+    /**
+     * Checks whether a WebDriver is bound to the current thread.
+     */
+    public static boolean hasDriver() {
+        return driver.get() != null;
+    }
+
     /**
      * Gracefully quits the WebDriver and removes it from the thread-local storage.
+     * Drivers created by {@link DriverFactory} are released there too, so the next
+     * test on a reused worker thread gets a fresh session instead of a dead one.
      */
     public static void quitDriver() {
         WebDriver webDriver = driver.get();
         if (webDriver != null) {
-            webDriver.quit();
+            if (webDriver == DriverFactory.currentDriver()) {
+                DriverFactory.quitDriver();
+            } else {
+                webDriver.quit();
+            }
             driver.remove();
         }
     }
 
     /**
-     * Opens the base UI or API page depending on parameters and returns the given Page Object.
+     * Clears the browser state a test left behind so the session can be reused, e.g. to retry a failed test
+     * without starting a new browser: cookies, local and session storage of the current page, and the page itself.
+     */
+    public static void resetSession() {
+        WebDriver webDriver = getDriver();
+        try {
+            ((JavascriptExecutor) webDriver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (RuntimeException e) {
+            // Storage is not accessible on every page, e.g. about:blank or data: URLs
+        }
+        webDriver.manage().deleteAllCookies();
+        webDriver.navigate().to("about:blank");
+    }
+
+    /**
+     * Opens the base UI URL, or a path below it, and returns the given Page Object.
      *
      * @param page       Class of the Page Object to instantiate.
-     * @param parameters Optional path segment(s) for the API base URL.
+     * @param parameters Optional path below the UI base URL.
      * @param <T>        Type of the Page Object.
      */
     public <T extends BasePage> T getLandingPage(Class<T> page, Object... parameters) {
         if (parameters.length > 0) {
-            navigateTo(String.format(getBaseApiUrl() + "%s", parameters));
+            navigateTo(PageRoutes.join(getBaseUiUrl(), String.format("%s", parameters)));
         } else {
             navigateTo(getBaseUiUrl());
         }
         return getPage(page);
     }
 
+    /**
+     * Opens a page directly at its {@link com.ambient.ui.pages.Route} and returns it once its readiness checks
+     * pass, skipping the clicks otherwise needed to reach it.
+     *
+     * @param page           Class of the Page Object to open.
+     * @param pathParameters Values for the route's path placeholders, in order.
+     * @param <T>            Type of the Page Object.
+     */
+    public <T extends BasePage> T open(Class<T> page, Object... pathParameters) {
+        return open(page, Map.of(), pathParameters);
+    }
+
+    /**
+     * Opens a page directly at its {@link com.ambient.ui.pages.Route} with query parameters and returns it once
+     * its readiness checks pass.
+     *
+     * @param page            Class of the Page Object to open.
+     * @param queryParameters Query parameters appended to the URL; null values are skipped.
+     * @param pathParameters  Values for the route's path placeholders, in order.
+     * @param <T>             Type of the Page Object.
+     */
+    public <T extends BasePage> T open(Class<T> page, Map<String, ?> queryParameters, Object... pathParameters) {
+        navigateTo(PageRoutes.url(page, queryParameters, pathParameters));
+        return getPage(page);
+    }
+
     /**
      * Navigates the browser to a given URL.
      *
@@ -84,12 +153,25 @@ public class WebUser {
      */
     public static <T extends BasePage> T getPage(Class<T> pageClass) {
         if (pageClass == null) return null;
+        PageLoadEvent event = new PageLoadEvent();
+        event.begin();
+        T page;
         try {
-            return pageClass.getConstructor(WebDriver.class).newInstance(getDriver());
+            page = pageClass.getConstructor(WebDriver.class).newInstance(getDriver());
         } catch (InstantiationException | IllegalAccessException |
                  InvocationTargetException | NoSuchMethodException e) {
             throw new RuntimeException("Failed to instantiate Page Object: " + pageClass.getSimpleName()
                     + ". Current URL: " + getDriver().getCurrentUrl(), e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.page = pageClass.getSimpleName();
+                event.networkProfile = NetworkEmulation.active().name();
+                event.commit();
+            }
         }
+        // Checked outside the reflective call so a hard budget fails the test with its own error
+        FrontendPerformance.enforce(pageClass, FrontendPerformance.capture(getDriver(), pageClass, page.getReadyMs()));
+        return page;
     }
 }
@@ -0,0 +1,190 @@
+package com.ambient.ui.artifacts;
+
+import com.ambient.utils.config.AppConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Captures failure artifacts (screenshot, page source, browser console) from a failed UI test.
+ *
+ * <p>Only the raw grab happens on the test thread: the screenshot is taken as the driver's base64 string,
+ * and Allure attachment slots are reserved in the current test context. Decoding, hashing, compression and
+ * file writes run on a bounded background executor. When its queue ({@code ambient.artifacts.queue.capacity},
+ * default 16) is full, the test thread writes the artifact itself, so a burst of failures slows down instead
+ * of piling up screenshots in memory.</p>
+ *
+ * <p>Besides the Allure attachments, artifacts are archived under {@code ambient.artifacts.dir}
+ * (default {@code target/failure-artifacts}): content-addressed by SHA-256 so identical screenshots and pages
+ * are stored once, text gzip-compressed, with {@code index.csv} mapping each test to its files.</p>
+ */
+@Slf4j
+public class FailureArtifacts {
+
+    private static final ThreadPoolExecutor executor = createExecutor();
+
+    private FailureArtifacts() {
+        // Utility class
+    }
+
+    /**
+     * Grabs the artifacts of a failed test and hands them to the background writer.
+     *
+     * @param driver   the driver of the failed test
+     * @param testName name used in the archive index
+     */
+    public static void capture(WebDriver driver, String testName) {
+        if (!AppConfig.getBooleanProperty("ambient.artifacts.enabled", true)) {
+            return;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+
+        String screenshot = grab("screenshot", () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64));
+        if (screenshot != null) {
+            String source = lifecycle.prepareAttachment("Failure screenshot", "image/png", ".png");
+            submit(() -> store(testName, "screenshot", source, Base64.getMimeDecoder().decode(screenshot), ".png"));
+        }
+
+        String pageSource = grab("page source", driver::getPageSource);
+        if (pageSource != null) {
+            String source = lifecycle.prepareAttachment("Failure page source", "text/html", ".html");
+            submit(() -> store(testName, "page-source", source, pageSource.getBytes(StandardCharsets.UTF_8), ".html"));
+        }
+
+        List<LogEntry> console = grab("browser console", () -> driver.manage().logs().get(LogType.BROWSER).getAll());
+        if (console != null && !console.isEmpty()) {
+            String source = lifecycle.prepareAttachment("Browser console", "text/plain", ".txt");
+            submit(() -> {
+                StringBuilder text = new StringBuilder();
+                console.forEach(entry -> text.append(entry).append(System.lineSeparator()));
+                store(testName, "console", source, text.toString().getBytes(StandardCharsets.UTF_8), ".txt");
+            });
+        }
+    }
+
+    /**
+     * Waits for queued artifacts to be written, e.g. at suite end.
+     *
+     * @param timeoutSeconds maximum time to wait
+     */
+    public static void awaitCompletion(long timeoutSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (executor.getActiveCount() > 0 || !executor.getQueue().isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                log.warn("Timed out waiting for {} failure artifacts to be written", executor.getQueue().size());
+                return;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes one artifact to its reserved Allure attachment and to the deduplicated archive.
+     */
+    private static void store(String testName, String kind, String allureSource, byte[] content, String extension) {
+        Allure.getLifecycle().writeAttachment(allureSource, new ByteArrayInputStream(content));
+
+        boolean compress = !".png".equals(extension);
+        String hash = sha256(content);
+        Path dir = Path.of(AppConfig.getProperty("ambient.artifacts.dir", "target/failure-artifacts"));
+        Path file = dir.resolve(hash + extension + (compress ? ".gz" : ""));
+        try {
+            Files.createDirectories(dir);
+            if (Files.notExists(file)) {
+                Path temp = Files.createTempFile(dir, hash, ".tmp");
+                try (OutputStream out = compress
+                        ? new GZIPOutputStream(Files.newOutputStream(temp))
+                        : Files.newOutputStream(temp)) {
+                    out.write(content);
+                }
+                try {
+                    Files.move(temp, file);
+                } catch (IOException alreadyWritten) {
+                    // Another writer stored identical content first
+                    Files.deleteIfExists(temp);
+                }
+            }
+            appendIndex(dir, testName + "," + kind + "," + file.getFileName());
+        } catch (IOException e) {
+            log.warn("Could not archive {} for {}: {}", kind, testName, e.getMessage());
+        }
+    }
+
+    private static synchronized void appendIndex(Path dir, String line) throws IOException {
+        Files.writeString(dir.resolve("index.csv"), line + System.lineSeparator(),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static void submit(Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("Failed to write failure artifact: {}", e.getMessage());
+            }
+        });
+    }
+
+    private static <T> T grab(String what, Supplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (RuntimeException e) {
+            log.warn("Could not capture {}: {}", what, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        int threads = Math.max(1, AppConfig.getIntProperty("ambient.artifacts.threads", 2));
+        int capacity = Math.max(1, AppConfig.getIntProperty("ambient.artifacts.queue.capacity", 16));
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "failure-artifacts-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Back-pressure: a full queue makes the failing test thread do the write itself
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ambient.ui.backend;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * Where browser sessions come from: a local browser or a remote Selenium Grid.
+ *
+ * <p>{@link com.ambient.ui.DriverFactory} builds the browser options and leaves starting and stopping the
+ * session to the backend selected with {@code ambient.ui.driver.backend}.</p>
+ */
+public interface DriverBackend {
+
+    /**
+     * Starts a new browser session.
+     *
+     * @param options browser options prepared by the driver factory
+     * @return the started session
+     */
+    WebDriver create(ChromeOptions options);
+
+    /**
+     * Ends a session created by this backend and releases whatever capacity it held.
+     *
+     * @param driver the session to quit
+     */
+    default void quit(WebDriver driver) {
+        driver.quit();
+    }
+
+    /**
+     * Returns how many sessions this backend can run at once.
+     *
+     * @return the session capacity, or -1 when it is bounded only by the local machine
+     */
+    int capacity();
+
+    /**
+     * Returns a human-readable usage report for the run.
+     *
+     * @return the report, or an empty string when the backend has nothing to report
+     */
+    default String report() {
+        return "";
+    }
+}
@@ -0,0 +1,271 @@
+package com.ambient.ui.backend;
+
+import com.ambient.utils.config.AppConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts sessions on a Selenium Grid with {@link RemoteWebDriver}.
+ *
+ * <p>Capacity comes from the grid's {@code /status} endpoint: the Chrome slots of every node that is up, each node
+ * capped at its {@code maxSessions}. Sessions are queued client-side on a semaphore of that size, so tests wait
+ * here for a free slot instead of filling the grid's new-session queue and timing out there
+ * ({@code ambient.ui.grid.queue.timeout.seconds}, default 300). {@code ambient.ui.grid.max.sessions} caps the
+ * capacity when the grid is shared.</p>
+ *
+ * <p>Failed session creation is retried {@code ambient.ui.grid.retries} times (default 3) with exponential
+ * backoff starting at {@code ambient.ui.grid.retry.backoff.ms} (default 1000). Each session is attributed to the
+ * node running it, and {@link #report()} shows per-node sessions, peak concurrency and utilization.</p>
+ */
+@Slf4j
+public class GridDriverBackend implements DriverBackend {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final URL gridUrl;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<String, GridNodeUsage> nodes = new ConcurrentHashMap<>();
+    private final Map<SessionId, RunningSession> sessions = new ConcurrentHashMap<>();
+    private volatile Semaphore slots;
+    private volatile int capacity;
+
+    /**
+     * @param gridUrl base URL of the grid router or standalone server, e.g. {@code http://localhost:4444}
+     */
+    public GridDriverBackend(String gridUrl) {
+        try {
+            this.gridUrl = URI.create(gridUrl.endsWith("/") ? gridUrl : gridUrl + "/").toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid Selenium Grid URL: " + gridUrl, e);
+        }
+    }
+
+    @Override
+    public WebDriver create(ChromeOptions options) {
+        Semaphore permits = slots();
+        long timeoutSeconds = AppConfig.getIntProperty("ambient.ui.grid.queue.timeout.seconds", 300);
+        try {
+            if (!permits.tryAcquire(timeoutSeconds, TimeUnit.SECONDS)) {
+                throw new SessionNotCreatedException("No free grid slot within " + timeoutSeconds + "s (capacity "
+                        + capacity + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionNotCreatedException("Interrupted while waiting for a grid slot");
+        }
+
+        int retries = Math.max(0, AppConfig.getIntProperty("ambient.ui.grid.retries", 3));
+        long backoffMs = Math.max(0, AppConfig.getIntProperty("ambient.ui.grid.retry.backoff.ms", 1000));
+        boolean created = false;
+        try {
+            for (int attempt = 0; ; attempt++) {
+                RemoteWebDriver remote = null;
+                try {
+                    remote = new RemoteWebDriver(gridUrl, options);
+                    // Augmenting exposes Chrome DevTools through the grid for network capture
+                    WebDriver augmented = new Augmenter().augment(remote);
+                    track(remote.getSessionId());
+                    created = true;
+                    return augmented;
+                } catch (WebDriverException e) {
+                    discard(remote);
+                    remote = null;
+                    if (attempt >= retries) {
+                        throw e;
+                    }
+                    long delay = backoffMs << attempt;
+                    log.warn("Grid session creation failed (attempt {}/{}), retrying in {} ms: {}",
+                            attempt + 1, retries + 1, delay, e.getMessage().lines().findFirst().orElse(""));
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        throw e;
+                    }
+                } finally {
+                    if (!created) {
+                        discard(remote);
+                    }
+                }
+            }
+        } finally {
+            // The slot is only held by a session that was handed out; quit(WebDriver) releases it
+            if (!created) {
+                permits.release();
+            }
+        }
+    }
+
+    @Override
+    public void quit(WebDriver driver) {
+        SessionId sessionId = driver instanceof RemoteWebDriver remote ? remote.getSessionId() : null;
+        try {
+            driver.quit();
+        } finally {
+            RunningSession session = sessionId == null ? null : sessions.remove(sessionId);
+            if (session != null) {
+                session.node.sessionEnded(session.startNanos, System.nanoTime());
+                slots.release();
+            }
+        }
+    }
+
+    @Override
+    public int capacity() {
+        try {
+            slots();
+            return capacity;
+        } catch (WebDriverException e) {
+            // Not cached: sessions re-read the status once the grid is reachable
+            log.warn("Could not read Selenium Grid capacity: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    @Override
+    public String report() {
+        if (nodes.isEmpty()) {
+            return "";
+        }
+        long now = System.nanoTime();
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-40s %6s %9s %6s %10s %12s%n",
+                "Node", "Slots", "Sessions", "Peak", "Busy s", "Utilization"));
+        nodes.values().stream()
+                .sorted((a, b) -> a.getUri().compareTo(b.getUri()))
+                .forEach(node -> table.append(String.format("%-40s %6d %9d %6d %10.1f %11.0f%%%n",
+                        node.getUri(), node.getSlots(), node.getSessions(), node.getPeak(),
+                        node.getBusyNanos() / 1e9, node.getUtilization(now) * 100)));
+        return table.toString();
+    }
+
+    /**
+     * Sizes the session semaphore from the grid's capacity on first use.
+     */
+    private Semaphore slots() {
+        if (slots == null) {
+            synchronized (this) {
+                if (slots == null) {
+                    int available = gridCapacity();
+                    int cap = AppConfig.getIntProperty("ambient.ui.grid.max.sessions", 0);
+                    capacity = Math.max(1, cap > 0 ? Math.min(cap, available) : available);
+                    log.info("Selenium Grid at {}: {} Chrome slot(s) available, using {}", gridUrl, available, capacity);
+                    slots = new Semaphore(capacity, true);
+                }
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Sums the Chrome capacity of all nodes that are up.
+     */
+    private int gridCapacity() {
+        JsonNode status = status();
+        int total = 0;
+        for (JsonNode node : status.path("value").path("nodes")) {
+            if (!"UP".equals(node.path("availability").asText())) {
+                continue;
+            }
+            int chromeSlots = 0;
+            for (JsonNode slot : node.path("slots")) {
+                if ("chrome".equalsIgnoreCase(slot.path("stereotype").path("browserName").asText())) {
+                    chromeSlots++;
+                }
+            }
+            int nodeCapacity = Math.min(chromeSlots, node.path("maxSessions").asInt(chromeSlots));
+            nodes.computeIfAbsent(node.path("uri").asText(), uri -> new GridNodeUsage(uri, nodeCapacity));
+            total += nodeCapacity;
+        }
+        if (total == 0) {
+            log.warn("Selenium Grid at {} reports no Chrome slots; sessions will queue on the grid", gridUrl);
+            return 1;
+        }
+        return total;
+    }
+
+    /**
+     * Attributes a new session to the node the grid placed it on.
+     */
+    private void track(SessionId sessionId) {
+        String nodeUri = "unknown";
+        int nodeSlots = 1;
+        try {
+            for (JsonNode node : status().path("value").path("nodes")) {
+                for (JsonNode slot : node.path("slots")) {
+                    if (sessionId.toString().equals(slot.path("session").path("sessionId").asText())) {
+                        nodeUri = node.path("uri").asText();
+                        nodeSlots = node.path("maxSessions").asInt(1);
+                    }
+                }
+            }
+        } catch (WebDriverException e) {
+            log.debug("Could not resolve grid node for session {}: {}", sessionId, e.getMessage());
+        }
+        int slotsForNode = nodeSlots;
+        GridNodeUsage node = nodes.computeIfAbsent(nodeUri, uri -> new GridNodeUsage(uri, slotsForNode));
+        long now = System.nanoTime();
+        node.sessionStarted(now);
+        sessions.put(sessionId, new RunningSession(node, now));
+    }
+
+    /**
+     * Quits a session that was started but not handed out and forgets its node attribution.
+     * The caller releases the slot.
+     */
+    private void discard(RemoteWebDriver remote) {
+        if (remote == null) {
+            return;
+        }
+        SessionId sessionId = remote.getSessionId();
+        RunningSession session = sessionId == null ? null : sessions.remove(sessionId);
+        if (session != null) {
+            session.node.sessionEnded(session.startNanos, System.nanoTime());
+        }
+        try {
+            remote.quit();
+        } catch (RuntimeException e) {
+            log.debug("Could not quit abandoned grid session {}: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private JsonNode status() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(gridUrl + "status"))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            return MAPPER.readTree(response.body());
+        } catch (IOException e) {
+            throw new WebDriverException("Selenium Grid status unavailable at " + gridUrl + ": " + e, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted reading Selenium Grid status", e);
+        }
+    }
+
+    private record RunningSession(GridNodeUsage node, long startNanos) {
+    }
+}
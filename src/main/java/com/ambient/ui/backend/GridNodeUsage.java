@@ -0,0 +1,54 @@
+package com.ambient.ui.backend;
+
+import lombok.Getter;
+
+/**
+ * Session usage of one Selenium Grid node over the run.
+ *
+ * <p>Utilization is the time the node's slots spent running sessions, divided by what its slots could have
+ * run since this run's first session on the node started.</p>
+ */
+@Getter
+public class GridNodeUsage {
+
+    private final String uri;
+    private final int slots;
+    private int sessions;
+    private int active;
+    private int peak;
+    private long busyNanos;
+    private long firstStartNanos;
+
+    GridNodeUsage(String uri, int slots) {
+        this.uri = uri;
+        this.slots = slots;
+    }
+
+    synchronized void sessionStarted(long nowNanos) {
+        if (sessions == 0) {
+            firstStartNanos = nowNanos;
+        }
+        sessions++;
+        active++;
+        peak = Math.max(peak, active);
+    }
+
+    synchronized void sessionEnded(long startNanos, long nowNanos) {
+        active = Math.max(0, active - 1);
+        busyNanos += nowNanos - startNanos;
+    }
+
+    /**
+     * Returns the share of the node's slot time used by this run's sessions.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return utilization between 0 and 1
+     */
+    public synchronized double getUtilization(long nowNanos) {
+        long window = nowNanos - firstStartNanos;
+        if (sessions == 0 || window <= 0 || slots <= 0) {
+            return 0;
+        }
+        return Math.min(1.0, (double) busyNanos / ((double) window * slots));
+    }
+}
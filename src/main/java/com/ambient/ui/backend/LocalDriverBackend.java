@@ -0,0 +1,40 @@
+package com.ambient.ui.backend;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * Starts Chrome on the machine running the tests.
+ */
+public class LocalDriverBackend implements DriverBackend {
+
+    private volatile boolean driverBinaryResolved;
+
+    /**
+     * Resolves the chromedriver binary once per JVM; parallel UI workers would otherwise
+     * race each other resolving and downloading it.
+     */
+    private void setupDriverBinary() {
+        if (!driverBinaryResolved) {
+            synchronized (this) {
+                if (!driverBinaryResolved) {
+                    WebDriverManager.chromedriver().setup();
+                    driverBinaryResolved = true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public WebDriver create(ChromeOptions options) {
+        setupDriverBinary();
+        return new ChromeDriver(options);
+    }
+
+    @Override
+    public int capacity() {
+        return -1;
+    }
+}
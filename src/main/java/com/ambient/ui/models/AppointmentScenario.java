@@ -0,0 +1,49 @@
+package com.ambient.ui.models;
+
+import com.ambient.utils.data.AppointmentScenarios;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A generated appointment scenario, identified by its seed and index.
+ *
+ * <p>The scenario only carries what is needed to regenerate it, so thousands of them can be handed to a
+ * data provider cheaply; {@link #toRequest()} builds the actual form data when the test runs. The same seed
+ * and index always produce the same request.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class AppointmentScenario {
+
+    /**
+     * What the scenario stresses.
+     */
+    public enum Kind {
+        /** An ordinary name, a short note and a half-hour slot during the day. */
+        TYPICAL,
+        /** Apostrophes, hyphens, diacritics, non-Latin scripts or very long names. */
+        EDGE_CASE_NAME,
+        /** Notes of several thousand characters. */
+        LONG_NOTES,
+        /** Slots crossing midnight, month or year ends, or lasting one minute. */
+        BOUNDARY_TIME
+    }
+
+    private final long seed;
+    private final int index;
+    private final Kind kind;
+
+    /**
+     * Generates the appointment form data for this scenario.
+     *
+     * @return the appointment request
+     */
+    public AppointmentRequest toRequest() {
+        return AppointmentScenarios.generate(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s-%d", kind, index);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ambient.ui.network;
+
+import lombok.Data;
+
+/**
+ * Time split of one page action (e.g. clicking "Create Appointment") between backend, network and browser.
+ *
+ * <ul>
+ *     <li>{@code serverMs} – time waiting for response headers of the XHR/fetch calls it triggered</li>
+ *     <li>{@code transferMs} – time sending requests and receiving response bodies</li>
+ *     <li>{@code clientMs} – action time not covered by any of its calls: scripting, rendering, driver overhead</li>
+ * </ul>
+ * Server and transfer times are summed over calls and can exceed the total when calls run in parallel.
+ */
+@Data
+public class ActionBreakdown {
+    private String page;
+    private String action;
+    private long totalMs;
+    private int apiCalls;
+    private double networkSpanMs;
+    private double serverMs;
+    private double transferMs;
+    private double clientMs;
+}
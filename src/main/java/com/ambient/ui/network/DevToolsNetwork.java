@@ -0,0 +1,150 @@
+package com.ambient.ui.network;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v124.network.Network;
+import org.openqa.selenium.devtools.v124.network.model.PostDataEntry;
+import org.openqa.selenium.devtools.v124.network.model.Request;
+import org.openqa.selenium.devtools.v124.network.model.ResourceTiming;
+import org.openqa.selenium.devtools.v124.network.model.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Chrome DevTools Protocol network domain calls used by {@link NetworkCapture} and {@link NetworkEmulation}.
+ *
+ * <p>This is the only class bound to a protocol version ({@code v124}); moving to a newer Chrome means changing
+ * the imports here and the matching {@code selenium-devtools-v*} module on the classpath. Selenium's
+ * version-independent network API covers neither event timings nor condition emulation.</p>
+ */
+final class DevToolsNetwork {
+
+    private DevToolsNetwork() {
+        // Utility class
+    }
+
+    /**
+     * Enables network events and commands on the session.
+     */
+    static void enable(DevTools devTools) {
+        devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+    }
+
+    /**
+     * Emulates latency, throughput and packet loss of a profile on the session.
+     */
+    static void emulate(DevTools devTools, NetworkProfile profile) {
+        devTools.send(Network.emulateNetworkConditions(false, profile.getLatencyMs(),
+                profile.getDownloadBytesPerSecond(), profile.getUploadBytesPerSecond(), Optional.empty(),
+                Optional.of(profile.getPacketLossPercent()), Optional.empty(), Optional.empty()));
+    }
+
+    /**
+     * Records every request of the session into {@code entries}, keyed by request id. Listeners run on DevTools
+     * threads and update an entry only while holding its monitor, see {@link NetworkEntry#snapshot()}.
+     *
+     * @param devTools session with network events enabled
+     * @param entries  concurrent map receiving the requests
+     */
+    static void record(DevTools devTools, Map<String, NetworkEntry> entries) {
+        devTools.addListener(Network.requestWillBeSent(), sent -> {
+            NetworkEntry entry = entries.computeIfAbsent(sent.getRequestId().toString(), id -> new NetworkEntry());
+            Request request = sent.getRequest();
+            synchronized (entry) {
+                entry.setRequestId(sent.getRequestId().toString());
+                entry.setUrl(request.getUrl());
+                entry.setMethod(request.getMethod());
+                entry.setRequestHeaders(request.getHeaders().toJson());
+                entry.setPostData(postData(request));
+                entry.setResourceType(sent.getType().map(Object::toString).orElse("Other"));
+                entry.setStartedEpochMs((long) (sent.getWallTime().toJson().doubleValue() * 1000));
+                entry.setStartMonotonic(sent.getTimestamp().toJson().doubleValue());
+            }
+        });
+
+        devTools.addListener(Network.responseReceived(), received -> {
+            NetworkEntry entry = entries.get(received.getRequestId().toString());
+            if (entry == null) {
+                return;
+            }
+            Response response = received.getResponse();
+            synchronized (entry) {
+                entry.setStatus(response.getStatus());
+                entry.setStatusText(response.getStatusText());
+                entry.setMimeType(response.getMimeType());
+                entry.setProtocol(response.getProtocol().orElse("HTTP/1.1"));
+                entry.setResponseHeaders(response.getHeaders().toJson());
+                response.getTiming().ifPresent(timing -> applyTiming(entry, timing));
+            }
+        });
+
+        devTools.addListener(Network.loadingFinished(), finished -> {
+            NetworkEntry entry = entries.get(finished.getRequestId().toString());
+            if (entry != null) {
+                synchronized (entry) {
+                    complete(entry, finished.getTimestamp().toJson().doubleValue());
+                    entry.setEncodedBytes(finished.getEncodedDataLength().longValue());
+                }
+            }
+        });
+
+        devTools.addListener(Network.loadingFailed(), failed -> {
+            NetworkEntry entry = entries.get(failed.getRequestId().toString());
+            if (entry != null) {
+                synchronized (entry) {
+                    complete(entry, failed.getTimestamp().toJson().doubleValue());
+                    entry.setErrorText(failed.getErrorText());
+                }
+            }
+        });
+    }
+
+    /**
+     * Reassembles the request body from its base64 post data entries. Chrome omits the entries for bodies too
+     * large to inline; those are recorded without a body.
+     */
+    private static String postData(Request request) {
+        if (!request.getHasPostData().orElse(false)) {
+            return null;
+        }
+        List<PostDataEntry> parts = request.getPostDataEntries().orElse(List.of());
+        if (parts.isEmpty()) {
+            return null;
+        }
+        return parts.stream()
+                .map(part -> part.getBytes().map(bytes -> new String(Base64.getDecoder().decode(bytes),
+                        StandardCharsets.UTF_8)).orElse(""))
+                .collect(Collectors.joining());
+    }
+
+    /**
+     * Converts Chrome's resource timing (offsets in ms from {@code requestTime}) into HAR-style phases.
+     */
+    private static void applyTiming(NetworkEntry entry, ResourceTiming timing) {
+        double dnsStart = timing.getDnsStart().doubleValue();
+        double connectStart = timing.getConnectStart().doubleValue();
+        double sslStart = timing.getSslStart().doubleValue();
+        double sendStart = timing.getSendStart().doubleValue();
+        double sendEnd = timing.getSendEnd().doubleValue();
+
+        entry.setStartMonotonic(timing.getRequestTime().doubleValue());
+        entry.setBlockedMs(dnsStart >= 0 ? dnsStart : connectStart >= 0 ? connectStart : sendStart);
+        entry.setDnsMs(dnsStart >= 0 ? timing.getDnsEnd().doubleValue() - dnsStart : -1);
+        entry.setConnectMs(connectStart >= 0 ? timing.getConnectEnd().doubleValue() - connectStart : -1);
+        entry.setSslMs(sslStart >= 0 ? timing.getSslEnd().doubleValue() - sslStart : -1);
+        entry.setSendMs(sendEnd - sendStart);
+        entry.setWaitMs(timing.getReceiveHeadersEnd().doubleValue() - sendEnd);
+        entry.setHeadersEndMs(timing.getReceiveHeadersEnd().doubleValue());
+    }
+
+    private static void complete(NetworkEntry entry, double endMonotonic) {
+        entry.setEndMonotonic(endMonotonic);
+        if (entry.getHeadersEndMs() >= 0) {
+            entry.setReceiveMs(Math.max(0, entry.getTotalMs() - entry.getHeadersEndMs()));
+        }
+    }
+}
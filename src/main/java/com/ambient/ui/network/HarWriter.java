@@ -0,0 +1,129 @@
+package com.ambient.ui.network;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes captured network traffic as an HTTP Archive (HAR 1.2) file, viewable in browser dev tools
+ * or any HAR viewer. Response bodies are not captured.
+ */
+public class HarWriter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private HarWriter() {
+        // Utility class
+    }
+
+    /**
+     * Builds the HAR document for the given entries.
+     *
+     * @param pageTitle title recorded for the single HAR page (typically the test name)
+     * @param entries   captured requests
+     * @return the HAR document as JSON
+     */
+    public static String toHar(String pageTitle, List<NetworkEntry> entries) throws IOException {
+        List<Map<String, Object>> harEntries = new ArrayList<>();
+        long firstStart = Long.MAX_VALUE;
+        for (NetworkEntry entry : entries) {
+            firstStart = Math.min(firstStart, entry.getStartedEpochMs());
+            harEntries.add(toHarEntry(entry));
+        }
+
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("startedDateTime", Instant.ofEpochMilli(firstStart == Long.MAX_VALUE ? 0 : firstStart).toString());
+        page.put("id", "page_1");
+        page.put("title", pageTitle);
+        page.put("pageTimings", Map.of());
+
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("version", "1.2");
+        log.put("creator", Map.of("name", "ambient-test-automation", "version", "1.0"));
+        log.put("pages", List.of(page));
+        log.put("entries", harEntries);
+        return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(Map.of("log", log));
+    }
+
+    /**
+     * Writes the HAR document to a file, creating parent directories as needed.
+     *
+     * @param file      target file
+     * @param pageTitle title recorded for the HAR page
+     * @param entries   captured requests
+     * @return the HAR document that was written
+     */
+    public static String write(Path file, String pageTitle, List<NetworkEntry> entries) throws IOException {
+        String har = toHar(pageTitle, entries);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, har);
+        return har;
+    }
+
+    private static Map<String, Object> toHarEntry(NetworkEntry entry) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("method", entry.getMethod());
+        request.put("url", entry.getUrl());
+        request.put("httpVersion", entry.getProtocol() == null ? "" : entry.getProtocol());
+        request.put("cookies", List.of());
+        request.put("headers", headers(entry.getRequestHeaders()));
+        request.put("queryString", List.of());
+        if (entry.getPostData() != null) {
+            request.put("postData", Map.of("mimeType", "application/json", "text", entry.getPostData()));
+        }
+        request.put("headersSize", -1);
+        request.put("bodySize", entry.getPostData() == null ? 0 : entry.getPostData().length());
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", entry.getStatus());
+        response.put("statusText", entry.getStatusText() == null ? "" : entry.getStatusText());
+        response.put("httpVersion", entry.getProtocol() == null ? "" : entry.getProtocol());
+        response.put("cookies", List.of());
+        response.put("headers", headers(entry.getResponseHeaders()));
+        response.put("content", Map.of("size", entry.getEncodedBytes(),
+                "mimeType", entry.getMimeType() == null ? "" : entry.getMimeType()));
+        response.put("redirectURL", "");
+        response.put("headersSize", -1);
+        response.put("bodySize", entry.getEncodedBytes());
+        if (entry.getErrorText() != null) {
+            response.put("_error", entry.getErrorText());
+        }
+
+        Map<String, Object> timings = new LinkedHashMap<>();
+        timings.put("blocked", entry.getBlockedMs());
+        timings.put("dns", entry.getDnsMs());
+        timings.put("connect", entry.getConnectMs());
+        timings.put("ssl", entry.getSslMs());
+        timings.put("send", Math.max(0, entry.getSendMs()));
+        timings.put("wait", Math.max(0, entry.getWaitMs()));
+        timings.put("receive", Math.max(0, entry.getReceiveMs()));
+
+        Map<String, Object> harEntry = new LinkedHashMap<>();
+        harEntry.put("pageref", "page_1");
+        harEntry.put("startedDateTime", Instant.ofEpochMilli(entry.getStartedEpochMs()).toString());
+        harEntry.put("time", entry.getTotalMs());
+        harEntry.put("request", request);
+        harEntry.put("response", response);
+        harEntry.put("cache", Map.of());
+        harEntry.put("timings", timings);
+        harEntry.put("_resourceType", entry.getResourceType());
+        return harEntry;
+    }
+
+    private static List<Map<String, Object>> headers(Map<String, Object> headers) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        if (headers != null) {
+            headers.forEach((name, value) -> list.add(Map.of("name", name, "value", String.valueOf(value))));
+        }
+        return list;
+    }
+}
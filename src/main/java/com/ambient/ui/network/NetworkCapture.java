@@ -0,0 +1,230 @@
+package com.ambient.ui.network;
+
+import com.ambient.utils.config.AppConfig;
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the browser's network traffic for one driver session through Chrome DevTools network events,
+ * and correlates XHR/fetch calls with the {@code BasePage} actions that triggered them.
+ *
+ * <p>An action window opens when a page action starts and closes when the next page object is ready
+ * or another action starts; calls that start inside the window are attributed to it.
+ * Enabled with {@code ambient.ui.network.capture} (default true); drivers without DevTools support are skipped.
+ * {@link #publish(String)} writes the traffic as a HAR file per test to {@code ambient.ui.network.har.dir}
+ * (default {@code target/har}) and attaches it, with the per-action breakdown, to Allure. Both are tagged with
+ * the session's {@link NetworkProfile} when the network is emulated.</p>
+ */
+@Slf4j
+public class NetworkCapture {
+
+    private static final ThreadLocal<NetworkCapture> current = new ThreadLocal<>();
+
+    private final DevTools devTools;
+    private final Map<String, NetworkEntry> entries = new ConcurrentHashMap<>();
+    private final List<ActionWindow> actions = new ArrayList<>();
+    private ActionWindow openAction;
+
+    private NetworkCapture(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Starts capturing network traffic for the driver and binds the capture to the current thread.
+     *
+     * @param driver the freshly created driver
+     */
+    public static void start(WebDriver driver) {
+        if (!AppConfig.getBooleanProperty("ambient.ui.network.capture", true) || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkCapture capture = new NetworkCapture(devTools);
+            capture.listen();
+            current.set(capture);
+        } catch (RuntimeException e) {
+            log.warn("Network capture unavailable for this session: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the capture bound to the current thread, if any.
+     */
+    public static Optional<NetworkCapture> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * Opens an action window on the current thread's capture, closing the previous one.
+     *
+     * @param page   simple name of the page class performing the action
+     * @param action description of the action
+     */
+    public static void beginAction(String page, String action) {
+        NetworkCapture capture = current.get();
+        if (capture != null) {
+            capture.openAction(page, action);
+        }
+    }
+
+    /**
+     * Closes the open action window on the current thread's capture, typically when the next page is ready.
+     */
+    public static void endAction() {
+        NetworkCapture capture = current.get();
+        if (capture != null) {
+            capture.closeAction();
+        }
+    }
+
+    /**
+     * Exports the current thread's traffic for a finished test: a HAR file on disk plus HAR and
+     * per-action breakdown attachments in Allure. The exported traffic is then discarded, so a session
+     * reused by the next attempt or test starts with an empty capture.
+     *
+     * @param testName name used for the HAR file and page title
+     */
+    public static void publish(String testName) {
+        NetworkCapture capture = current.get();
+        if (capture == null) {
+            return;
+        }
+        capture.closeAction();
+        NetworkProfile profile = NetworkEmulation.active();
+        String title = profile.isThrottled() ? testName + " [" + profile + "]" : testName;
+        String fileName = profile.isThrottled() ? testName + "." + profile + ".har" : testName + ".har";
+        Path file = Path.of(AppConfig.getProperty("ambient.ui.network.har.dir", "target/har"), fileName);
+        try {
+            String har = HarWriter.write(file, title, capture.getEntries());
+            Allure.addAttachment("Network traffic (HAR)", "application/json", har, ".har");
+        } catch (IOException e) {
+            log.warn("Could not write HAR file {}: {}", file, e.getMessage());
+        }
+
+        List<ActionBreakdown> breakdowns = capture.getActionBreakdowns();
+        if (!breakdowns.isEmpty()) {
+            StringBuilder table = new StringBuilder(String.format("%-28s %-48s %8s %6s %10s %10s %10s%n",
+                    "Page", "Action", "total", "calls", "server", "transfer", "client"));
+            for (ActionBreakdown b : breakdowns) {
+                table.append(String.format("%-28s %-48.48s %8d %6d %10.1f %10.1f %10.1f%n", b.getPage(), b.getAction(),
+                        b.getTotalMs(), b.getApiCalls(), b.getServerMs(), b.getTransferMs(), b.getClientMs()));
+            }
+            Allure.addAttachment(profile.isThrottled() ? "UI action timing breakdown (ms, " + profile + ")"
+                    : "UI action timing breakdown (ms)", table.toString());
+        }
+        capture.clear();
+    }
+
+    /**
+     * Stops capturing and unbinds the capture from the current thread.
+     */
+    public static void stop() {
+        NetworkCapture capture = current.get();
+        current.remove();
+        if (capture != null) {
+            try {
+                capture.devTools.clearListeners();
+                capture.devTools.close();
+            } catch (RuntimeException e) {
+                log.debug("Ignoring error while closing DevTools session: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns snapshots of all captured requests ordered by start time. Listeners keep updating the live entries,
+     * so callers get copies taken under each entry's lock.
+     */
+    public List<NetworkEntry> getEntries() {
+        List<NetworkEntry> sorted = new ArrayList<>();
+        entries.values().forEach(entry -> sorted.add(entry.snapshot()));
+        sorted.sort((a, b) -> Double.compare(a.getStartMonotonic(), b.getStartMonotonic()));
+        return sorted;
+    }
+
+    /**
+     * Computes the server / transfer / client split for every closed action window.
+     */
+    public synchronized List<ActionBreakdown> getActionBreakdowns() {
+        List<NetworkEntry> all = getEntries();
+        List<ActionBreakdown> breakdowns = new ArrayList<>();
+        for (ActionWindow window : actions) {
+            ActionBreakdown breakdown = new ActionBreakdown();
+            breakdown.setPage(window.page);
+            breakdown.setAction(window.action);
+            breakdown.setTotalMs(window.endEpochMs - window.startEpochMs);
+
+            double firstStart = Double.MAX_VALUE;
+            double lastEnd = 0;
+            for (NetworkEntry entry : all) {
+                if (!entry.isApiCall() || entry.getStartedEpochMs() < window.startEpochMs
+                        || entry.getStartedEpochMs() > window.endEpochMs) {
+                    continue;
+                }
+                breakdown.setApiCalls(breakdown.getApiCalls() + 1);
+                breakdown.setServerMs(breakdown.getServerMs() + Math.max(0, entry.getWaitMs()));
+                breakdown.setTransferMs(breakdown.getTransferMs()
+                        + Math.max(0, entry.getSendMs()) + Math.max(0, entry.getReceiveMs()));
+                firstStart = Math.min(firstStart, entry.getStartMonotonic());
+                lastEnd = Math.max(lastEnd, entry.getEndMonotonic());
+            }
+            double span = lastEnd > firstStart ? (lastEnd - firstStart) * 1000 : 0;
+            breakdown.setNetworkSpanMs(span);
+            breakdown.setClientMs(Math.max(0, breakdown.getTotalMs() - span));
+            breakdowns.add(breakdown);
+        }
+        return breakdowns;
+    }
+
+    private synchronized void clear() {
+        entries.clear();
+        actions.clear();
+    }
+
+    private synchronized void openAction(String page, String action) {
+        closeAction();
+        openAction = new ActionWindow(page, action, System.currentTimeMillis());
+    }
+
+    private synchronized void closeAction() {
+        if (openAction != null) {
+            openAction.endEpochMs = System.currentTimeMillis();
+            actions.add(openAction);
+            openAction = null;
+        }
+    }
+
+    private void listen() {
+        DevToolsNetwork.enable(devTools);
+        DevToolsNetwork.record(devTools, entries);
+    }
+
+    /**
+     * A page action and the time span during which network calls are attributed to it.
+     */
+    private static final class ActionWindow {
+        private final String page;
+        private final String action;
+        private final long startEpochMs;
+        private long endEpochMs;
+
+        private ActionWindow(String page, String action, long startEpochMs) {
+            this.page = page;
+            this.action = action;
+            this.startEpochMs = startEpochMs;
+        }
+    }
+}
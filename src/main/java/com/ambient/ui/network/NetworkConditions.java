@@ -0,0 +1,27 @@
+package com.ambient.ui.network;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a test method, or every test method of a class, under an emulated {@link NetworkProfile}.
+ *
+ * <p>A method annotation wins over a class annotation, which wins over {@code ambient.ui.network.profile}.</p>
+ *
+ * <pre>
+ * &#64;Test
+ * &#64;NetworkConditions(NetworkProfile.SLOW_3G)
+ * public void createAppointmentOnSlow3gTest() { ... }
+ * </pre>
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface NetworkConditions {
+
+    /** The network profile to emulate. */
+    NetworkProfile value();
+}
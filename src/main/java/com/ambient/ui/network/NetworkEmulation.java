@@ -0,0 +1,109 @@
+package com.ambient.ui.network;
+
+import com.ambient.utils.config.AppConfig;
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Applies a {@link NetworkProfile} to browser sessions through Chrome DevTools network emulation.
+ *
+ * <p>The run-wide profile comes from {@code ambient.ui.network.profile} (default {@code none}); a test selects its
+ * own with {@link NetworkConditions}, which {@link #select(Class, Method)} resolves before the test starts. The profile is
+ * applied when the test's session is bound to its thread and stays until the session quits. The applied profile
+ * is added to the Allure test as the {@code network profile} parameter, so runs under different conditions get
+ * separate histories, and {@link #active()} lets timing results be tagged with it.</p>
+ */
+@Slf4j
+public class NetworkEmulation {
+
+    private static final ThreadLocal<NetworkProfile> selected = new ThreadLocal<>();
+    private static final ThreadLocal<NetworkProfile> active = new ThreadLocal<>();
+
+    private NetworkEmulation() {
+        // Utility class
+    }
+
+    /**
+     * Selects the profile for the test method about to run on this thread.
+     *
+     * @param testClass the class of the test instance, which may inherit the method from a base class
+     * @param method    the test method
+     * @return the selected profile
+     */
+    public static NetworkProfile select(Class<?> testClass, Method method) {
+        NetworkConditions conditions = method.getAnnotation(NetworkConditions.class);
+        if (conditions == null) {
+            // Resolved on the instance's class so annotations on subclasses (or @Inherited from their bases) apply
+            conditions = testClass.getAnnotation(NetworkConditions.class);
+        }
+        NetworkProfile profile = conditions != null ? conditions.value() : configured();
+        selected.set(profile);
+        return profile;
+    }
+
+    /**
+     * Clears the selection made for the finished test.
+     */
+    public static void clear() {
+        selected.remove();
+    }
+
+    /**
+     * Emulates the selected profile on a session that was just bound to the current thread.
+     * Drivers without DevTools support run unthrottled.
+     *
+     * @param driver the current thread's driver
+     */
+    public static void apply(WebDriver driver) {
+        NetworkProfile profile = Optional.ofNullable(selected.get()).orElseGet(NetworkEmulation::configured);
+        if (!profile.isThrottled()) {
+            active.set(NetworkProfile.NONE);
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            log.warn("Driver has no DevTools support; cannot emulate network profile {}", profile);
+            active.set(NetworkProfile.NONE);
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            DevToolsNetwork.enable(devTools);
+            DevToolsNetwork.emulate(devTools, profile);
+            active.set(profile);
+            Allure.parameter("network profile", profile.name());
+            log.info("Emulating network profile {} ({} ms RTT, {} B/s down, {} B/s up, {}% loss)", profile,
+                    profile.getLatencyMs(), profile.getDownloadBytesPerSecond(), profile.getUploadBytesPerSecond(),
+                    profile.getPacketLossPercent());
+        } catch (RuntimeException e) {
+            log.warn("Could not emulate network profile {}: {}", profile, e.getMessage());
+            active.set(NetworkProfile.NONE);
+        }
+    }
+
+    /**
+     * Forgets the profile of the current thread's session when it quits.
+     */
+    public static void release() {
+        active.remove();
+    }
+
+    /**
+     * Returns the profile emulated on the current thread's session.
+     *
+     * @return the active profile, {@link NetworkProfile#NONE} when the network is not emulated
+     */
+    public static NetworkProfile active() {
+        return Optional.ofNullable(active.get()).orElse(NetworkProfile.NONE);
+    }
+
+    private static NetworkProfile configured() {
+        return NetworkProfile.parse(AppConfig.getProperty("ambient.ui.network.profile", "none"));
+    }
+}
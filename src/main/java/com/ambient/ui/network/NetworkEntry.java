@@ -0,0 +1,91 @@
+package com.ambient.ui.network;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * A single browser network request observed through the DevTools protocol.
+ * Monotonic timestamps are in seconds as reported by Chrome; phase timings are in milliseconds,
+ * with -1 meaning the phase did not apply (e.g. no DNS lookup on a reused connection).
+ *
+ * <p>DevTools listener threads fill an entry while holding its monitor; readers take a {@link #snapshot()}.</p>
+ */
+@Data
+public class NetworkEntry {
+    private String requestId;
+    private String url;
+    private String method;
+    private String resourceType;
+    private Map<String, Object> requestHeaders;
+    private String postData;
+    private long startedEpochMs;
+    private double startMonotonic;
+    private double endMonotonic;
+
+    private int status;
+    private String statusText;
+    private String mimeType;
+    private String protocol;
+    private Map<String, Object> responseHeaders;
+    private long encodedBytes;
+    private String errorText;
+
+    private double blockedMs = -1;
+    private double dnsMs = -1;
+    private double connectMs = -1;
+    private double sslMs = -1;
+    private double sendMs = -1;
+    private double waitMs = -1;
+    private double receiveMs = -1;
+    /** Offset from request start at which response headers were complete */
+    private double headersEndMs = -1;
+
+    /**
+     * Copies the entry while no listener is updating it.
+     *
+     * @return a copy that is no longer updated
+     */
+    public synchronized NetworkEntry snapshot() {
+        NetworkEntry copy = new NetworkEntry();
+        copy.requestId = requestId;
+        copy.url = url;
+        copy.method = method;
+        copy.resourceType = resourceType;
+        copy.requestHeaders = requestHeaders;
+        copy.postData = postData;
+        copy.startedEpochMs = startedEpochMs;
+        copy.startMonotonic = startMonotonic;
+        copy.endMonotonic = endMonotonic;
+        copy.status = status;
+        copy.statusText = statusText;
+        copy.mimeType = mimeType;
+        copy.protocol = protocol;
+        copy.responseHeaders = responseHeaders;
+        copy.encodedBytes = encodedBytes;
+        copy.errorText = errorText;
+        copy.blockedMs = blockedMs;
+        copy.dnsMs = dnsMs;
+        copy.connectMs = connectMs;
+        copy.sslMs = sslMs;
+        copy.sendMs = sendMs;
+        copy.waitMs = waitMs;
+        copy.receiveMs = receiveMs;
+        copy.headersEndMs = headersEndMs;
+        return copy;
+    }
+
+    /**
+     * Whether the request came from application code (XHR/fetch) rather than document or asset loading.
+     */
+    public boolean isApiCall() {
+        return "XHR".equals(resourceType) || "Fetch".equals(resourceType);
+    }
+
+    /**
+     * Wall-clock duration of the request from send to last byte.
+     */
+    public double getTotalMs() {
+        return endMonotonic > startMonotonic ? (endMonotonic - startMonotonic) * 1000 : 0;
+    }
+}
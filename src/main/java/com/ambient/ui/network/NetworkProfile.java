@@ -0,0 +1,65 @@
+package com.ambient.ui.network;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Named network conditions emulated through Chrome DevTools.
+ *
+ * <p>Latency is the added round-trip time in milliseconds and throughput is in bytes per second; -1 leaves
+ * throughput unthrottled. The 3G profiles match the Chrome DevTools presets.</p>
+ *
+ * <p>DevTools only applies packet loss to WebRTC traffic, so {@link #LOSSY} also models its effect on HTTP:
+ * throughput is capped at the rate a TCP connection sustains at that loss and round-trip time
+ * (about {@code 1.22 * MSS / (RTT * sqrt(loss))}).</p>
+ */
+@Getter
+@AllArgsConstructor
+public enum NetworkProfile {
+
+    /** No emulation; the browser's own network. */
+    NONE(0, -1, -1, 0),
+    /** Chrome DevTools "Fast 3G": 563 ms RTT, 1.44 Mbit/s down, 675 kbit/s up. */
+    FAST_3G(563, 180_000, 84_375, 0),
+    /** Chrome DevTools "Slow 3G": 2 s RTT, 400 kbit/s both ways. */
+    SLOW_3G(2000, 50_000, 50_000, 0),
+    /** Distant office or VPN link: 300 ms RTT, 10 Mbit/s down, 5 Mbit/s up. */
+    HIGH_LATENCY_WAN(300, 1_250_000, 625_000, 0),
+    /** Congested link with 2% packet loss at 150 ms RTT. */
+    LOSSY(150, 84_000, 84_000, 2);
+
+    private final long latencyMs;
+    private final long downloadBytesPerSecond;
+    private final long uploadBytesPerSecond;
+    private final double packetLossPercent;
+
+    /**
+     * Parses a profile name as used in configuration, ignoring case and accepting dashes,
+     * e.g. {@code slow-3g} or {@code HIGH_LATENCY_WAN}. A blank name means {@link #NONE}.
+     *
+     * @param name the profile name
+     * @return the matching profile
+     * @throws IllegalArgumentException if no profile has that name
+     */
+    public static NetworkProfile parse(String name) {
+        if (name == null || name.isBlank()) {
+            return NONE;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown network profile '" + name + "', expected one of "
+                    + Arrays.toString(values()), e);
+        }
+    }
+
+    /**
+     * Checks whether this profile changes the network at all.
+     */
+    public boolean isThrottled() {
+        return this != NONE;
+    }
+}
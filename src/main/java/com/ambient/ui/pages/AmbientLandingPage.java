@@ -1,5 +1,6 @@
 package com.ambient.ui.pages;
 
+import com.ambient.ui.perf.PerformanceBudget;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -12,6 +13,8 @@ import static com.ambient.ui.WebUser.getPage;
  * Page Object representing the Ambient Landing Page.
  * This is typically the first page after login or landing in the app.
  */
+@Route("/")
+@PerformanceBudget(lcpMs = 2500, cls = 0.1, tbtMs = 300, readyMs = 5000)
 public class AmbientLandingPage extends BasePage {
 
     /**
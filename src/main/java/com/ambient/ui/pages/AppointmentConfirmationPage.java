@@ -1,5 +1,6 @@
 package com.ambient.ui.pages;
 
+import com.ambient.ui.perf.PerformanceBudget;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -14,6 +15,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * Page Object representing the Appointment Confirmation Page.
  * This page appears after successfully creating a new appointment.
  */
+@PerformanceBudget(cls = 0.1, inpMs = 200, readyMs = 5000)
 public class AppointmentConfirmationPage extends BasePage {
 
     /**
@@ -49,7 +51,7 @@ public class AppointmentConfirmationPage extends BasePage {
      */
     public AppointmentConfirmationPage validateAppointmentConfirmed(String patientName) {
         // Locate the heading element with the patient's name dynamically
-        By nameHeadingBy = By.xpath(String.format("//h1[text()='%s']", patientName));
+        By nameHeadingBy = By.xpath(String.format("//h1[text()=%s]", xpathLiteral(patientName)));
         // Wait for the heading element to be displayed before asserting
         waitForElementToBeDisplayed(nameHeadingBy, 10, 1);
 
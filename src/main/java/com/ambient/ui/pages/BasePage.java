@@ -1,5 +1,7 @@
 package com.ambient.ui.pages;
 
+import com.ambient.ui.network.NetworkCapture;
+import com.ambient.utils.jfr.PageActionEvent;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j;
 import org.openqa.selenium.*;
@@ -23,6 +25,7 @@ import static org.openqa.selenium.support.ui.ExpectedConditions.visibilityOf;
 public class BasePage {
     private static final long TIMEOUT = 60;
     protected WebDriver driver;
+    private long readyMs = -1;
 
     /**
      * Constructor initializes the page object and elements using PageFactory.
@@ -34,24 +37,41 @@ public class BasePage {
         PageFactory.initElements(driver, this);
     }
 
+    /**
+     * Returns how long the page waited in {@link #loadPage(List)} for its mandatory elements.
+     *
+     * @return the time in milliseconds, or -1 if the page has no readiness check
+     */
+    public long getReadyMs() {
+        return readyMs;
+    }
+
     /**
      * Waits for the specified list of mandatory elements to be visible on the page.
-     * This method ensures the page has loaded by checking presence of critical UI elements.
+     * This method ensures the page has loaded by checking presence of critical UI elements,
+     * and records how long that took for frontend performance metrics.
      *
      * @param mandatoryElements list of WebElements that must be visible
      */
     protected void loadPage(List<WebElement> mandatoryElements) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT));
-        for (WebElement elm : mandatoryElements) {
-            try {
-                wait.ignoring(StaleElementReferenceException.class)
-                        .withTimeout(Duration.ofSeconds(TIMEOUT))
-                        .pollingEvery(Duration.ofSeconds(1))
-                        .until(visibilityOf(elm));
-            } catch (TimeoutException e) {
-                throw new RuntimeException("Timeout waiting for element visibility: " + elm, e);
+        long start = System.nanoTime();
+        track("loadPage", mandatoryElements, () -> {
+            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT));
+            for (WebElement elm : mandatoryElements) {
+                try {
+                    wait.ignoring(StaleElementReferenceException.class)
+                            .withTimeout(Duration.ofSeconds(TIMEOUT))
+                            .pollingEvery(Duration.ofSeconds(1))
+                            .until(visibilityOf(elm));
+                } catch (TimeoutException e) {
+                    throw new RuntimeException("Timeout waiting for element visibility: " + elm, e);
+                }
             }
-        }
+        });
+        // The action that led here is complete once this page is ready
+        NetworkCapture.endAction();
+        // Record how fast the page rendered; WebUser.getPage checks it against the page's budget
+        readyMs = (System.nanoTime() - start) / 1_000_000;
     }
 
     /**
@@ -61,8 +81,10 @@ public class BasePage {
      * @param value   the string value to enter
      */
     protected void sendKeys(@NonNull WebElement element, @NonNull String value) {
-        element.clear();
-        element.sendKeys(value);
+        track("sendKeys", element, () -> {
+            element.clear();
+            element.sendKeys(value);
+        });
     }
 
     /**
@@ -71,8 +93,11 @@ public class BasePage {
      * @param element the WebElement to click
      */
     protected void click(@NonNull WebElement element) {
-        log(element);
-        element.click();
+        NetworkCapture.beginAction(getClass().getSimpleName(), "click " + describe(element));
+        track("click", element, () -> {
+            log(element);
+            element.click();
+        });
     }
 
     /**
@@ -91,10 +116,13 @@ public class BasePage {
      * @param element the WebElement to click using JS
      */
     public void javaScriptClick(@NonNull WebElement element) {
-        log(element);
-        JavascriptExecutor executor = (JavascriptExecutor) driver;
-        executor.executeScript("arguments[0].scrollIntoView(true);", element);
-        executor.executeScript("arguments[0].click();", element);
+        NetworkCapture.beginAction(getClass().getSimpleName(), "javaScriptClick " + describe(element));
+        track("javaScriptClick", element, () -> {
+            log(element);
+            JavascriptExecutor executor = (JavascriptExecutor) driver;
+            executor.executeScript("arguments[0].scrollIntoView(true);", element);
+            executor.executeScript("arguments[0].click();", element);
+        });
     }
 
     /**
@@ -104,13 +132,16 @@ public class BasePage {
      * @param text          the visible text to select (case-insensitive)
      */
     public void selectDropDownByTextIgnoringCase(@NonNull WebElement selectElement, @NonNull String text) {
-        Select dropdown = new Select(selectElement);
-        for (WebElement option : dropdown.getOptions()) {
-            if (option.getText().equalsIgnoreCase(text)) {
-                dropdown.selectByVisibleText(option.getText());
-                break;
+        NetworkCapture.beginAction(getClass().getSimpleName(), "select '" + text + "' in " + describe(selectElement));
+        track("selectDropDown", selectElement, () -> {
+            Select dropdown = new Select(selectElement);
+            for (WebElement option : dropdown.getOptions()) {
+                if (option.getText().equalsIgnoreCase(text)) {
+                    dropdown.selectByVisibleText(option.getText());
+                    break;
+                }
             }
-        }
+        });
     }
 
     /**
@@ -119,17 +150,19 @@ public class BasePage {
      * @param mandatoryElements list of WebElements to wait for visibility
      */
     protected void waitForWebElements(List<WebElement> mandatoryElements) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        for (WebElement elm : mandatoryElements) {
-            try {
-                wait.ignoring(StaleElementReferenceException.class)
-                        .withTimeout(Duration.ofSeconds(60))
-                        .pollingEvery(Duration.ofSeconds(1))
-                        .until(visibilityOf(elm));
-            } catch (TimeoutException e) {
-                throw new RuntimeException("Timeout waiting for element visibility: " + elm, e);
+        track("waitForWebElements", mandatoryElements, () -> {
+            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            for (WebElement elm : mandatoryElements) {
+                try {
+                    wait.ignoring(StaleElementReferenceException.class)
+                            .withTimeout(Duration.ofSeconds(60))
+                            .pollingEvery(Duration.ofSeconds(1))
+                            .until(visibilityOf(elm));
+                } catch (TimeoutException e) {
+                    throw new RuntimeException("Timeout waiting for element visibility: " + elm, e);
+                }
             }
-        }
+        });
     }
 
     /**
@@ -138,9 +171,11 @@ public class BasePage {
      * @param element the WebElement to focus on
      */
     public void javaScriptFocusOnElement(@NonNull WebElement element) {
-        log(element);
-        JavascriptExecutor executor = (JavascriptExecutor) driver;
-        executor.executeScript("arguments[0].focus();", element);
+        track("javaScriptFocus", element, () -> {
+            log(element);
+            JavascriptExecutor executor = (JavascriptExecutor) driver;
+            executor.executeScript("arguments[0].focus();", element);
+        });
     }
 
     /**
@@ -151,11 +186,12 @@ public class BasePage {
      * @param pollInterval polling interval in seconds
      */
     public void waitForElementToBeDisplayed(@NonNull By by, int timeout, int pollInterval) {
-        new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(timeout))
-                .pollingEvery(Duration.ofSeconds(pollInterval))
-                .ignoring(NoSuchElementException.class)
-                .until(driver -> driver.findElement(by).isDisplayed());
+        track("waitForElementToBeDisplayed", by, () ->
+                new FluentWait<>(driver)
+                        .withTimeout(Duration.ofSeconds(timeout))
+                        .pollingEvery(Duration.ofSeconds(pollInterval))
+                        .ignoring(NoSuchElementException.class)
+                        .until(driver -> driver.findElement(by).isDisplayed()));
     }
 
     /**
@@ -164,12 +200,14 @@ public class BasePage {
      */
     public void waitForPage() {
         By spinnerBy = By.cssSelector("[data-fetching]");
-        try {
-            presenceOfElementLocated(spinnerBy, 5);
-            waitForAttributeValueToChange(spinnerBy, "data-fetching", "false");
-        } catch (TimeoutException te) {
-            // Spinner not found, continue normally
-        }
+        track("waitForPage", spinnerBy, () -> {
+            try {
+                presenceOfElementLocated(spinnerBy, 5);
+                waitForAttributeValueToChange(spinnerBy, "data-fetching", "false");
+            } catch (TimeoutException te) {
+                // Spinner not found, continue normally
+            }
+        });
     }
 
     /**
@@ -179,10 +217,12 @@ public class BasePage {
      * @param timeoutInSeconds  time to wait before timing out
      */
     public void presenceOfElementLocated(@NonNull By by, int timeoutInSeconds) {
-        driver.manage().timeouts().implicitlyWait(5, TimeUnit.SECONDS);
-        new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds))
-                .until(ExpectedConditions.presenceOfElementLocated(by));
-        driver.manage().timeouts().implicitlyWait(TIMEOUT, TimeUnit.SECONDS);
+        track("presenceOfElementLocated", by, () -> {
+            driver.manage().timeouts().implicitlyWait(5, TimeUnit.SECONDS);
+            new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds))
+                    .until(ExpectedConditions.presenceOfElementLocated(by));
+            driver.manage().timeouts().implicitlyWait(TIMEOUT, TimeUnit.SECONDS);
+        });
     }
 
     /**
@@ -193,9 +233,10 @@ public class BasePage {
      * @param expectedAttributeValue expected value of the attribute
      */
     public void waitForAttributeValueToChange(@NonNull By by, @NonNull String attribute, @NonNull String expectedAttributeValue) {
-        new WebDriverWait(driver, Duration.ofSeconds(10))
-                .ignoring(WebDriverException.class)
-                .until(ExpectedConditions.attributeToBe(by, attribute, expectedAttributeValue));
+        track("waitForAttributeValue", by, () ->
+                new WebDriverWait(driver, Duration.ofSeconds(10))
+                        .ignoring(WebDriverException.class)
+                        .until(ExpectedConditions.attributeToBe(by, attribute, expectedAttributeValue)));
     }
 
     /**
@@ -212,8 +253,9 @@ public class BasePage {
      * @param text    the expected text to be present
      */
     public void textToBePresentInElement(@NonNull By element, @NonNull String text) {
-        new WebDriverWait(driver, Duration.ofSeconds(10))
-                .until(ExpectedConditions.textToBePresentInElementLocated(element, text));
+        track("textToBePresentInElement", element, () ->
+                new WebDriverWait(driver, Duration.ofSeconds(10))
+                        .until(ExpectedConditions.textToBePresentInElementLocated(element, text)));
     }
 
     /**
@@ -229,6 +271,60 @@ public class BasePage {
         }
     }
 
+    /**
+     * Runs a page action and records it as a JFR {@link PageActionEvent}.
+     * When the event is disabled only the timing calls remain, which the JIT reduces to near nothing.
+     *
+     * @param action short name of the action
+     * @param target element, locator or elements the action works on
+     * @param body   the action itself
+     */
+    protected void track(String action, Object target, Runnable body) {
+        PageActionEvent event = new PageActionEvent();
+        event.begin();
+        try {
+            body.run();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.page = getClass().getSimpleName();
+                event.action = action;
+                event.target = describe(target);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Returns a short description of an element, locator or element list for reports,
+     * stripping the PageFactory proxy prefix so only the locator remains.
+     *
+     * @param target the element, locator or list to describe
+     * @return the description
+     */
+    protected static String describe(Object target) {
+        return String.valueOf(target)
+                .replace("Proxy element for: DefaultElementLocator ", "")
+                .replace("Proxy element for: ", "");
+    }
+
+    /**
+     * Quotes text for use as an XPath string literal. Text containing both quote characters is
+     * built with {@code concat()}, since XPath 1.0 has no escape sequences.
+     *
+     * @param text the text to match, e.g. a generated patient name such as {@code O'Brien}
+     * @return the XPath literal
+     */
+    protected static String xpathLiteral(String text) {
+        if (!text.contains("'")) {
+            return "'" + text + "'";
+        }
+        if (!text.contains("\"")) {
+            return "\"" + text + "\"";
+        }
+        return "concat('" + text.replace("'", "', \"'\", '") + "')";
+    }
+
     /**
      * Logs information about the WebElement being interacted with.
      * Attempts to use various attributes to identify the element meaningfully.
@@ -1,6 +1,7 @@
 package com.ambient.ui.pages;
 
 import com.ambient.ui.models.AppointmentRequest;
+import com.ambient.ui.perf.PerformanceBudget;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -13,6 +14,7 @@ import static com.ambient.ui.WebUser.getPage;
  * Page Object representing the "New Appointment" screen in the Ambient web application.
  * This class encapsulates UI interactions needed to create a new appointment.
  */
+@PerformanceBudget(cls = 0.1, inpMs = 200, readyMs = 3000)
 public class NewAppointmentPage extends BasePage {
 
     // Input field for entering the patient's name
@@ -0,0 +1,25 @@
+package com.ambient.ui.pages;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the URL path a page object can be opened at directly, relative to {@code ambient.ui.baseurl}.
+ *
+ * <p>Path parameters are written as {@code {name}} and filled in order by {@code WebUser.open}.
+ * A route can be overridden without a code change with {@code ambient.ui.route.<PageClassSimpleName>}.</p>
+ *
+ * <pre>
+ * &#64;Route("/")
+ * public class AmbientLandingPage extends BasePage { ... }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Route {
+
+    /** Path of the page, starting with {@code /}. */
+    String value();
+}
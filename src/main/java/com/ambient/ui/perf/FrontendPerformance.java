@@ -0,0 +1,263 @@
+package com.ambient.ui.perf;
+
+import com.ambient.ui.network.NetworkEmulation;
+import com.ambient.ui.network.NetworkProfile;
+import com.ambient.utils.config.AppConfig;
+import com.ambient.utils.data.NameHelper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Captures frontend performance metrics for page objects that declare a {@link PerformanceBudget} and checks
+ * them against it. {@code WebUser.getPage} captures each such page once it is constructed and ready; pages
+ * without a budget are not measured, so they do not pay for the metrics script.
+ *
+ * <p>Each capture is attached to the Allure report and appended to a CSV history file
+ * ({@code ambient.ui.perf.history.file}, default {@code .ambient/frontend-perf-history.csv}, outside {@code target/}
+ * so {@code mvn clean} keeps it) so trends can be tracked across runs. Capture can be switched off with
+ * {@code ambient.ui.perf.enabled=false}.</p>
+ *
+ * <p>Metrics are tagged with the emulated {@link NetworkProfile}, and the summary reports each page per profile.
+ * Budgets describe the unthrottled network and are only enforced when no profile is emulated.</p>
+ */
+@Slf4j
+public class FrontendPerformance {
+
+    private static final String SCRIPT = loadScript();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String CSV_HEADER = "timestamp,run,page,url,documentLoad,readyMs,ttfbMs,domContentLoadedMs,"
+            + "loadMs,firstPaintMs,fcpMs,lcpMs,cls,tbtMs,inpMs,networkProfile";
+
+    private static final Collection<PageMetrics> captured = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Double> lastTimeOrigin = new ThreadLocal<>();
+
+    private FrontendPerformance() {
+        // Utility class
+    }
+
+    /**
+     * Captures metrics for a page object that has just become ready.
+     *
+     * @param driver    the driver showing the page
+     * @param pageClass the page object class
+     * @param readyMs   time the page object waited for its mandatory elements, negative if it has no readiness check
+     * @return the metrics, or null when the page has no budget, capture is disabled or failed
+     */
+    public static PageMetrics capture(WebDriver driver, Class<?> pageClass, long readyMs) {
+        if (!AppConfig.getBooleanProperty("ambient.ui.perf.enabled", true) || readyMs < 0
+                || !pageClass.isAnnotationPresent(PerformanceBudget.class)
+                || !(driver instanceof JavascriptExecutor executor)) {
+            return null;
+        }
+        PageMetrics metrics;
+        try {
+            Object raw = executor.executeAsyncScript(SCRIPT);
+            if (!(raw instanceof Map<?, ?> values)) {
+                return null;
+            }
+            metrics = toMetrics(pageClass.getSimpleName(), readyMs, values);
+        } catch (RuntimeException e) {
+            log.warn("Could not capture frontend metrics for {}: {}", pageClass.getSimpleName(), e.getMessage());
+            return null;
+        }
+
+        captured.add(metrics);
+        attach(metrics);
+        appendHistory(metrics);
+        return metrics;
+    }
+
+    /**
+     * Checks captured metrics against the page's budget. Budgets are not checked under an emulated network profile.
+     *
+     * @param pageClass the page object class
+     * @param metrics   the page's metrics, may be null when nothing was captured
+     * @throws PerformanceBudgetError if a hard budget is exceeded
+     */
+    public static void enforce(Class<?> pageClass, PageMetrics metrics) {
+        if (metrics == null) {
+            return;
+        }
+        if (NetworkProfile.valueOf(metrics.getNetworkProfile()).isThrottled()) {
+            log.debug("Skipping performance budget of {} under network profile {}", metrics.getPage(),
+                    metrics.getNetworkProfile());
+            return;
+        }
+        enforce(pageClass.getAnnotation(PerformanceBudget.class), metrics);
+    }
+
+    /**
+     * Returns every capture made during the run.
+     *
+     * @return captured metrics in capture order
+     */
+    public static List<PageMetrics> getCaptured() {
+        return new ArrayList<>(captured);
+    }
+
+    /**
+     * Builds a per-page summary of the run (sample count, median and worst values) as a text table.
+     * Pages loaded under an emulated network profile get a separate row per profile.
+     *
+     * @return the summary, or an empty string when nothing was captured
+     */
+    public static String summary() {
+        Map<String, List<PageMetrics>> byPage = new TreeMap<>();
+        for (PageMetrics metrics : captured) {
+            String key = NetworkProfile.NONE.name().equals(metrics.getNetworkProfile())
+                    ? metrics.getPage() : metrics.getPage() + " [" + metrics.getNetworkProfile() + "]";
+            byPage.computeIfAbsent(key, k -> new ArrayList<>()).add(metrics);
+        }
+        if (byPage.isEmpty()) {
+            return "";
+        }
+        StringBuilder table = new StringBuilder(String.format("%-48s %6s %12s %12s %12s %12s %8s%n",
+                "Page", "Loads", "ready p50", "ready max", "LCP p50", "LCP max", "CLS max"));
+        byPage.forEach((page, samples) -> {
+            List<Double> ready = new ArrayList<>();
+            List<Double> lcp = new ArrayList<>();
+            double cls = 0;
+            for (PageMetrics m : samples) {
+                ready.add((double) m.getReadyMs());
+                if (m.getLcpMs() != null) lcp.add(m.getLcpMs());
+                if (m.getCls() != null) cls = Math.max(cls, m.getCls());
+            }
+            table.append(String.format("%-48s %6d %12.0f %12.0f %12.0f %12.0f %8.3f%n", page, samples.size(),
+                    median(ready), max(ready), median(lcp), max(lcp), cls));
+        });
+        return table.toString();
+    }
+
+    private static PageMetrics toMetrics(String page, long readyMs, Map<?, ?> values) {
+        Double timeOrigin = number(values.get("timeOrigin"));
+        boolean documentLoad = timeOrigin == null || !timeOrigin.equals(lastTimeOrigin.get());
+        lastTimeOrigin.set(timeOrigin);
+
+        PageMetrics metrics = new PageMetrics();
+        metrics.setPage(page);
+        metrics.setNetworkProfile(NetworkEmulation.active().name());
+        metrics.setUrl(String.valueOf(values.get("url")));
+        metrics.setDocumentLoad(documentLoad);
+        metrics.setReadyMs(readyMs);
+        // Navigation and paint timings describe the document load, not in-app transitions
+        if (documentLoad) {
+            metrics.setTtfbMs(number(values.get("ttfb")));
+            metrics.setDomContentLoadedMs(number(values.get("domContentLoaded")));
+            metrics.setLoadMs(number(values.get("load")));
+            metrics.setFirstPaintMs(number(values.get("firstPaint")));
+            metrics.setFcpMs(number(values.get("fcp")));
+        }
+        metrics.setLcpMs(number(values.get("lcp")));
+        metrics.setCls(number(values.get("cls")));
+        metrics.setTbtMs(number(values.get("tbt")));
+        metrics.setInpMs(number(values.get("inp")));
+        return metrics;
+    }
+
+    private static void enforce(PerformanceBudget budget, PageMetrics m) {
+        if (budget == null) {
+            return;
+        }
+        List<String> violations = new ArrayList<>();
+        check(violations, "ready", m.getReadyMs(), budget.readyMs());
+        check(violations, "TTFB", m.getTtfbMs(), budget.ttfbMs());
+        check(violations, "FCP", m.getFcpMs(), budget.fcpMs());
+        check(violations, "LCP", m.getLcpMs(), budget.lcpMs());
+        check(violations, "CLS", m.getCls(), budget.cls());
+        check(violations, "TBT", m.getTbtMs(), budget.tbtMs());
+        check(violations, "INP", m.getInpMs(), budget.inpMs());
+        if (violations.isEmpty()) {
+            return;
+        }
+
+        String message = String.format("Performance budget exceeded on %s: %s", m.getPage(), String.join(", ", violations));
+        Allure.addAttachment("Performance budget violations: " + m.getPage(), message);
+        if (budget.hard()) {
+            throw new PerformanceBudgetError(message);
+        }
+        log.warn(message);
+    }
+
+    private static void check(List<String> violations, String metric, Number actual, double limit) {
+        if (limit >= 0 && actual != null && actual.doubleValue() > limit) {
+            violations.add(String.format("%s %.3f > %s", metric, actual.doubleValue(), limit));
+        }
+    }
+
+    private static void attach(PageMetrics metrics) {
+        try {
+            Allure.addAttachment("Frontend metrics: " + metrics.getPage(), "application/json",
+                    MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(metrics), ".json");
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize frontend metrics for {}: {}", metrics.getPage(), e.getMessage());
+        }
+    }
+
+    private static synchronized void appendHistory(PageMetrics m) {
+        Path file = Path.of(AppConfig.getProperty("ambient.ui.perf.history.file", ".ambient/frontend-perf-history.csv"));
+        String row = String.join(",", Instant.now().toString(), NameHelper.getRunMarker(), m.getPage(),
+                '"' + m.getUrl() + '"', String.valueOf(m.isDocumentLoad()), String.valueOf(m.getReadyMs()),
+                csv(m.getTtfbMs()), csv(m.getDomContentLoadedMs()), csv(m.getLoadMs()), csv(m.getFirstPaintMs()),
+                csv(m.getFcpMs()), csv(m.getLcpMs()), csv(m.getCls()), csv(m.getTbtMs()), csv(m.getInpMs()), m.getNetworkProfile());
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.notExists(file)) {
+                Files.writeString(file, CSV_HEADER + System.lineSeparator());
+            }
+            Files.writeString(file, row + System.lineSeparator(), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Could not append frontend metrics to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String csv(Double value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static Double number(Object value) {
+        return value instanceof Number n ? n.doubleValue() : null;
+    }
+
+    private static double median(List<Double> values) {
+        if (values.isEmpty()) return Double.NaN;
+        List<Double> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static double max(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).max().orElse(Double.NaN);
+    }
+
+    private static String loadScript() {
+        try (InputStream input = FrontendPerformance.class.getClassLoader().getResourceAsStream("js/page-metrics.js")) {
+            if (input == null) {
+                throw new IllegalStateException("Missing resource js/page-metrics.js");
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
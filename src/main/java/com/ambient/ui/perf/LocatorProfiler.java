@@ -0,0 +1,287 @@
+package com.ambient.ui.perf;
+
+import com.ambient.ui.pages.BasePage;
+import com.ambient.utils.config.AppConfig;
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Profiles element lookups: every {@code findElement}/{@code findElements} call, including the ones behind
+ * {@code @FindBy} fields and waits, is timed and attributed to the page object class that made it.
+ *
+ * <p>Enabled with {@code ambient.ui.locators.profile=true}, which wraps each browser session in an
+ * {@link EventFiringDecorator}. Locators that only differ in quoted values are reported as one row once a page uses
+ * more than {@value #VARIANT_LIMIT} of them, so {@code String.format}-built XPath such as {@code //h1[text()='Jane Doe']}
+ * is ranked as a single locator. A lookup that throws or finds nothing is a miss; waits poll until a lookup hits, so
+ * misses count the retries.</p>
+ *
+ * <p>{@link #publish()} ranks each page's locators by cumulative lookup time, adds suggestions for cheaper
+ * equivalents, writes one report per page class to {@code ambient.ui.locators.report.dir}
+ * (default {@code target/locator-profile}) and attaches the reports to Allure.</p>
+ */
+@Slf4j
+public class LocatorProfiler implements WebDriverListener {
+
+    private static final String UNATTRIBUTED = "Unattributed";
+    private static final int VARIANT_LIMIT = 3;
+    private static final Pattern QUOTED = Pattern.compile("'[^']*'|\"[^\"]*\"");
+    private static final Pattern ID_ONLY = Pattern.compile("^//(\\*|[\\w-]+)\\[@id\\s*=\\s*'([^']+)']$");
+    private static final Pattern ATTRIBUTES_ONLY = Pattern.compile("^//([\\w-]+)((\\[@[\\w-]+\\s*=\\s*'[^']*'])+)$");
+    private static final Pattern ATTRIBUTE = Pattern.compile("\\[@([\\w-]+)\\s*=\\s*'([^']*)']");
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final Map<String, Map<String, LocatorStats>> pages = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Lookup> lookup = new ThreadLocal<>();
+
+    /**
+     * Checks whether locator profiling is switched on.
+     */
+    public static boolean isEnabled() {
+        return AppConfig.getBooleanProperty("ambient.ui.locators.profile", false);
+    }
+
+    /**
+     * Wraps a driver so its element lookups are profiled.
+     *
+     * @param driver the session to profile
+     * @return the profiled view of the session
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(new LocatorProfiler()).decorate(driver);
+    }
+
+    @Override
+    public void beforeFindElement(WebDriver driver, By locator) {
+        begin(locator);
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        end(true);
+    }
+
+    @Override
+    public void beforeFindElements(WebDriver driver, By locator) {
+        begin(locator);
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        end(!result.isEmpty());
+    }
+
+    @Override
+    public void beforeFindElement(WebElement element, By locator) {
+        begin(locator);
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        end(true);
+    }
+
+    @Override
+    public void beforeFindElements(WebElement element, By locator) {
+        begin(locator);
+    }
+
+    @Override
+    public void afterFindElements(WebElement element, By locator, List<WebElement> result) {
+        end(!result.isEmpty());
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (method.getName().startsWith("findElement")) {
+            end(false);
+        }
+    }
+
+    /**
+     * Ranks each page's locators by cumulative lookup time and publishes one report per page class.
+     *
+     * @return the reports by page class, empty when nothing was profiled
+     */
+    public static Map<String, String> publish() {
+        Map<String, String> reports = new TreeMap<>();
+        pages.forEach((page, locators) -> reports.put(page, report(page, locators)));
+        if (reports.isEmpty()) {
+            return reports;
+        }
+        Path dir = Path.of(AppConfig.getProperty("ambient.ui.locators.report.dir", "target/locator-profile"));
+        try {
+            Files.createDirectories(dir);
+            for (Map.Entry<String, String> report : reports.entrySet()) {
+                Files.writeString(dir.resolve(report.getKey().replaceAll("[^\\w.-]", "_") + ".txt"), report.getValue());
+            }
+        } catch (IOException e) {
+            log.warn("Could not write locator profile to {}: {}", dir, e.getMessage());
+        }
+        reports.forEach((page, report) -> Allure.addAttachment("Locator profile: " + page, report));
+        return reports;
+    }
+
+    /**
+     * Suggests a cheaper or sturdier equivalent for a locator, based on its form.
+     *
+     * @param locator locator description as produced by {@code By.toString()}
+     * @return the suggestion, or an empty string when there is nothing obvious to improve
+     */
+    static String suggest(String locator) {
+        if (!locator.startsWith("By.xpath: ")) {
+            return "";
+        }
+        String xpath = locator.substring("By.xpath: ".length()).trim();
+        Matcher id = ID_ONLY.matcher(xpath);
+        if (id.matches()) {
+            return "By.id(\"" + id.group(2) + "\")";
+        }
+        Matcher attributes = ATTRIBUTES_ONLY.matcher(xpath);
+        if (attributes.matches()) {
+            StringBuilder css = new StringBuilder(attributes.group(1));
+            Matcher attribute = ATTRIBUTE.matcher(attributes.group(2));
+            while (attribute.find()) {
+                css.append('[').append(attribute.group(1)).append("='").append(attribute.group(2)).append("']");
+            }
+            return "By.cssSelector(\"" + css + "\")";
+        }
+        List<String> hints = new ArrayList<>();
+        if (xpath.startsWith("/html") || xpath.startsWith("/body")) {
+            hints.add("absolute path breaks on any layout change; anchor on an id or data-testid");
+        }
+        if (xpath.contains("text()") || xpath.contains("contains(.")) {
+            hints.add("text match scans every text node; match an attribute (data-testid, name, aria-label) "
+                    + "with By.cssSelector, or search .// from a container element");
+        }
+        if (xpath.contains("following-sibling::") || xpath.contains("preceding-sibling::")
+                || xpath.contains("ancestor::") || xpath.contains("parent::")) {
+            hints.add("axis navigation from a label: locate the input by its own attribute "
+                    + "(e.g. input[name='...']) or via label[for]");
+        }
+        if (xpath.startsWith("//") && !xpath.contains("@id") && hints.isEmpty()) {
+            hints.add("whole-document search; scope it to a container with .// or use By.cssSelector");
+        }
+        return String.join("; ", hints);
+    }
+
+    private static String report(String page, Map<String, LocatorStats> locators) {
+        Map<String, List<String>> variants = new TreeMap<>();
+        locators.keySet().forEach(locator -> variants.computeIfAbsent(QUOTED.matcher(locator).replaceAll("?"),
+                k -> new ArrayList<>()).add(locator));
+        Map<String, LocatorStats> rows = new TreeMap<>();
+        variants.forEach((template, group) -> {
+            if (group.size() > VARIANT_LIMIT) {
+                LocatorStats merged = new LocatorStats();
+                group.forEach(locator -> merged.add(locators.get(locator)));
+                rows.put(template + "  (" + group.size() + " variants)", merged);
+            } else {
+                group.forEach(locator -> rows.put(locator, locators.get(locator)));
+            }
+        });
+
+        List<Map.Entry<String, LocatorStats>> ranked = new ArrayList<>(rows.entrySet());
+        ranked.sort(Comparator.comparingLong((Map.Entry<String, LocatorStats> entry) -> entry.getValue().totalNanos.sum())
+                .reversed());
+        StringBuilder table = new StringBuilder(String.format("Locator profile for %s, ranked by total lookup time%n%n", page));
+        table.append(String.format("%4s %7s %7s %10s %9s %9s  %s%n", "Rank", "Lookups", "Misses", "Total ms", "Mean ms",
+                "Max ms", "Locator"));
+        int rank = 1;
+        for (Map.Entry<String, LocatorStats> entry : ranked) {
+            LocatorStats stats = entry.getValue();
+            long count = stats.lookups.sum();
+            table.append(String.format("%4d %7d %7d %10.1f %9.2f %9.1f  %s%n", rank++, count, stats.misses.sum(),
+                    stats.totalNanos.sum() / 1e6, stats.totalNanos.sum() / 1e6 / Math.max(1, count),
+                    stats.maxNanos.get() / 1e6, entry.getKey()));
+            String suggestion = suggest(entry.getKey());
+            if (!suggestion.isEmpty()) {
+                table.append(String.format("%36s-> %s%n", "", suggestion));
+            }
+        }
+        return table.toString();
+    }
+
+    private static void begin(By locator) {
+        lookup.set(new Lookup(String.valueOf(locator), page(), System.nanoTime()));
+    }
+
+    private static void end(boolean found) {
+        Lookup current = lookup.get();
+        if (current == null) {
+            return;
+        }
+        lookup.remove();
+        long elapsed = System.nanoTime() - current.startNanos;
+        LocatorStats stats = pages.computeIfAbsent(current.page, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(current.locator, k -> new LocatorStats());
+        stats.lookups.increment();
+        stats.totalNanos.add(elapsed);
+        stats.maxNanos.accumulate(elapsed);
+        if (!found) {
+            stats.misses.increment();
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("{} {} in {} ms", current.page, current.locator, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+
+    /**
+     * Finds the page object class on the call stack, preferring a concrete page over {@link BasePage} itself.
+     */
+    private static String page() {
+        Optional<Class<?>> page = WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(type -> BasePage.class.isAssignableFrom(type) && type != BasePage.class)
+                .findFirst());
+        if (page.isPresent()) {
+            return page.get().getSimpleName();
+        }
+        boolean inBasePage = WALKER.walk(frames -> frames.anyMatch(frame -> frame.getDeclaringClass() == BasePage.class));
+        return inBasePage ? BasePage.class.getSimpleName() : UNATTRIBUTED;
+    }
+
+    /**
+     * Aggregated lookups of one locator.
+     */
+    private static final class LocatorStats {
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(LocatorStats other) {
+            lookups.add(other.lookups.sum());
+            misses.add(other.misses.sum());
+            totalNanos.add(other.totalNanos.sum());
+            maxNanos.accumulate(other.maxNanos.get());
+        }
+    }
+
+    /**
+     * A lookup in progress on the current thread.
+     */
+    private record Lookup(String locator, String page, long startNanos) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.ambient.ui.perf;
+
+import lombok.Data;
+
+/**
+ * Frontend performance metrics captured when a page object finished loading.
+ * Timing values are in milliseconds; a null value means the browser did not report the metric.
+ * Web Vitals (CLS, TBT, INP) accumulate over the lifetime of the document.
+ */
+@Data
+public class PageMetrics {
+    private String page;
+    private String url;
+    /** Name of the emulated network profile, {@code NONE} on the unthrottled network */
+    private String networkProfile;
+    /** False when the page was reached by an in-app transition rather than a document load */
+    private boolean documentLoad;
+    private long readyMs;
+    private Double ttfbMs;
+    private Double domContentLoadedMs;
+    private Double loadMs;
+    private Double firstPaintMs;
+    private Double fcpMs;
+    private Double lcpMs;
+    private Double cls;
+    private Double tbtMs;
+    private Double inpMs;
+}
@@ -0,0 +1,49 @@
+package com.ambient.ui.perf;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares frontend performance budgets for a page object class.
+ *
+ * <p>Every limit is optional; a negative value (the default) leaves that metric unchecked.
+ * Navigation-timing budgets only apply when the page was reached by a full document load, while
+ * {@link #readyMs()} also applies to in-app transitions.</p>
+ *
+ * <pre>
+ * &#64;PerformanceBudget(lcpMs = 2500, cls = 0.1, readyMs = 3000)
+ * public class AmbientLandingPage extends BasePage { ... }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface PerformanceBudget {
+
+    /** Time until the page object's mandatory elements were visible, in milliseconds. */
+    long readyMs() default -1;
+
+    /** Time to first byte of the document, in milliseconds. */
+    long ttfbMs() default -1;
+
+    /** First contentful paint, in milliseconds. */
+    long fcpMs() default -1;
+
+    /** Largest contentful paint, in milliseconds. */
+    long lcpMs() default -1;
+
+    /** Cumulative layout shift score. */
+    double cls() default -1;
+
+    /** Total blocking time from long tasks, in milliseconds. */
+    long tbtMs() default -1;
+
+    /** Slowest interaction (Interaction to Next Paint approximation), in milliseconds. */
+    long inpMs() default -1;
+
+    /**
+     * Whether a violation fails the test immediately (hard) or is only reported (soft).
+     */
+    boolean hard() default false;
+}
@@ -0,0 +1,17 @@
+package com.ambient.ui.perf;
+
+/**
+ * Thrown when a page exceeds a hard {@link PerformanceBudget}.
+ *
+ * <p>It is an {@link AssertionError}, so the test fails rather than breaks, and it is never retried:
+ * passing on a second, warmer load would hide the regression.</p>
+ */
+public class PerformanceBudgetError extends AssertionError {
+
+    /**
+     * @param message the violated limits
+     */
+    public PerformanceBudgetError(String message) {
+        super(message);
+    }
+}
@@ -5,22 +5,35 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 
 /**
  * Utility class for loading configuration values from the {@code config.properties} file.
  * <p>
- * This class loads the properties at class initialization time and provides convenient
- * methods to access configuration values used in both API and UI testing layers.
+ * The file is read on first access rather than when the class is loaded, so referencing this class
+ * costs nothing on the startup path, and provides convenient methods to access configuration values
+ * used in both API and UI testing layers.
  */
 @Slf4j
 public class AppConfig {
 
     private static final String CONFIG_FILE = "config.properties";
-    private static final Properties properties = new Properties();
 
-    // Static block to initialize properties when the class is loaded
-    static {
+    /**
+     * Holds the loaded configuration; the JVM initializes it, thread-safely, on the first property lookup.
+     */
+    private static final class Holder {
+        private static final Properties PROPERTIES = load();
+    }
+
+    /**
+     * Loads {@code config.properties} from the classpath.
+     */
+    private static Properties load() {
+        Properties properties = new Properties();
         try (InputStream input = AppConfig.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
             if (input == null) {
                 log.error("Configuration file '{}' not found in classpath.", CONFIG_FILE);
@@ -32,6 +45,7 @@ public class AppConfig {
             log.error("Failed to load configuration file '{}'", CONFIG_FILE, e);
             throw new RuntimeException("Error loading configuration from " + CONFIG_FILE, e);
         }
+        return properties;
     }
 
     /**
@@ -54,14 +68,79 @@ public class AppConfig {
         return getProperty("ambient.ui.baseurl");
     }
 
+    /**
+     * Retrieves a tuning property, allowing a JVM system property with the same key
+     * (e.g. {@code -Dambient.api.seed.threads=16}) to override the configuration file.
+     *
+     * @param key          the property key
+     * @param defaultValue value returned when the key is not set anywhere
+     * @return the resolved property value
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String value = System.getProperty(key, Holder.PROPERTIES.getProperty(key));
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    /**
+     * Retrieves an integer tuning property.
+     *
+     * @param key          the property key
+     * @param defaultValue value returned when the key is missing or not a number
+     * @return the resolved integer value
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            log.warn("Configuration key '{}' has non-numeric value '{}', using {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Retrieves a boolean tuning property.
+     *
+     * @param key          the property key
+     * @param defaultValue value returned when the key is missing
+     * @return the resolved boolean value
+     */
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Retrieves all properties whose key starts with the given prefix, with the prefix removed.
+     * JVM system properties override entries from the configuration file.
+     *
+     * @param prefix key prefix, e.g. {@code ambient.api.sla.}
+     * @return matching properties keyed by the remainder of the key
+     */
+    public static Map<String, String> getPropertiesWithPrefix(String prefix) {
+        Map<String, String> matches = new TreeMap<>();
+        for (Properties source : List.of(Holder.PROPERTIES, System.getProperties())) {
+            for (String key : source.stringPropertyNames()) {
+                if (key.startsWith(prefix)) {
+                    matches.put(key.substring(prefix.length()), source.getProperty(key).trim());
+                }
+            }
+        }
+        return matches;
+    }
+
     /**
      * Retrieves a property by key from the loaded configuration file.
+     * A JVM system property with the same key takes precedence.
      *
      * @param key the property key
      * @return the property value, or {@code null} if not found
      */
     private static String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = System.getProperty(key, Holder.PROPERTIES.getProperty(key));
         if (value == null || value.trim().isEmpty()) {
             log.warn("Configuration key '{}' is missing or empty in '{}'", key, CONFIG_FILE);
         }
@@ -0,0 +1,202 @@
+package com.ambient.utils.data;
+
+import com.ambient.ui.models.AppointmentRequest;
+import com.ambient.ui.models.AppointmentScenario;
+import com.ambient.utils.config.AppConfig;
+import com.github.javafaker.Faker;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Generates appointment scenarios deterministically for data-driven tests.
+ *
+ * <p>{@link #stream(long, int)} yields scenarios one at a time, cycling through every
+ * {@link AppointmentScenario.Kind}. Each request is generated from a random source seeded with the run seed and
+ * the scenario index, so a failing scenario can be reproduced from those two numbers alone. The count and seed come
+ * from {@code ambient.ui.scenarios.count} (default 8) and {@code ambient.ui.scenarios.seed} (default 1).</p>
+ *
+ * <p>Slots are placed on or after {@code ambient.ui.scenarios.base.date} (yyyy-MM-dd, default tomorrow, so even a
+ * midnight slot lies in the future), so times are only reproducible across days when that date is pinned. Notes always start with the run marker so the created
+ * appointments are cleaned up with the rest of the run's data.</p>
+ */
+public class AppointmentScenarios {
+
+    private static final List<String> EDGE_FIRST_NAMES = List.of(
+            "José", "Zoë", "Søren", "Łukasz", "Nguyễn Thị", "Mary-Jane", "D'Angelo", "Ōtani", "Anaïs", "Björk");
+    private static final List<String> EDGE_LAST_NAMES = List.of(
+            "O'Brien", "Smith-Jones", "van der Berg", "Müller", "Ñúñez", "Dvořák", "McAllister-O'Neil", "李", "Çelik");
+    private static final int LONG_NAME_LENGTH = 100;
+
+    /**
+     * Pairs a per-thread Faker with the random source it draws from. Building a Faker parses its locale
+     * files, so each thread keeps one and reseeds the random source for every scenario instead.
+     */
+    private static final class Generator {
+        private final Random random = new Random();
+        private final Faker faker = new Faker(random);
+    }
+
+    private static final ThreadLocal<Generator> generators = ThreadLocal.withInitial(Generator::new);
+
+    private AppointmentScenarios() {
+        // Utility class
+    }
+
+    /**
+     * Returns the configured number of scenarios.
+     */
+    public static int count() {
+        return Math.max(0, AppConfig.getIntProperty("ambient.ui.scenarios.count", 8));
+    }
+
+    /**
+     * Returns the configured seed.
+     */
+    public static long seed() {
+        return Long.parseLong(AppConfig.getProperty("ambient.ui.scenarios.seed", "1"));
+    }
+
+    /**
+     * Lazily yields {@code count} scenarios as data provider rows, each holding one {@link AppointmentScenario}.
+     *
+     * @param seed  the run seed
+     * @param count the number of scenarios
+     * @return an iterator creating each row on demand
+     */
+    public static Iterator<Object[]> stream(long seed, int count) {
+        AppointmentScenario.Kind[] kinds = AppointmentScenario.Kind.values();
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int current = index++;
+                return new Object[]{new AppointmentScenario(seed, current, kinds[current % kinds.length])};
+            }
+        };
+    }
+
+    /**
+     * Generates the form data of a scenario. The same scenario always yields the same request.
+     *
+     * @param scenario the scenario
+     * @return the appointment request
+     */
+    public static AppointmentRequest generate(AppointmentScenario scenario) {
+        Generator generator = generators.get();
+        // Mix the index into the seed so neighbouring seeds do not produce shifted copies of each other
+        generator.random.setSeed(scenario.getSeed() ^ (scenario.getIndex() * 0x9E3779B97F4A7C15L));
+        Faker faker = generator.faker;
+        Random random = generator.random;
+
+        String name = faker.name().firstName() + " " + faker.name().lastName();
+        String notes = "test notes - " + NameHelper.getRunMarker() + " " + faker.lorem().sentence();
+        LocalDateTime start = baseDate().plusDays(random.nextInt(30))
+                .atTime(8 + random.nextInt(10), 15 * random.nextInt(4));
+        LocalDateTime end = start.plusMinutes(30);
+
+        switch (scenario.getKind()) {
+            case EDGE_CASE_NAME:
+                name = edgeCaseName(faker, random);
+                break;
+            case LONG_NOTES:
+                notes = longNotes(notes, faker, AppConfig.getIntProperty("ambient.ui.scenarios.notes.length", 2000));
+                break;
+            case BOUNDARY_TIME:
+                LocalDateTime[] slot = boundarySlot(start.toLocalDate(), random);
+                start = slot[0];
+                end = slot[1];
+                break;
+            default:
+                break;
+        }
+
+        return AppointmentRequest.builder()
+                .patientName(name)
+                .startTime(DateTimeHelper.format(start))
+                .endTime(DateTimeHelper.format(end))
+                .notes(notes)
+                .build();
+    }
+
+    private static String edgeCaseName(Faker faker, Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return pick(EDGE_FIRST_NAMES, random) + " " + pick(EDGE_LAST_NAMES, random);
+            case 1:
+                return faker.name().firstName() + " " + pick(EDGE_LAST_NAMES, random);
+            case 2:
+                return pick(EDGE_FIRST_NAMES, random) + " " + faker.name().lastName();
+            default:
+                StringBuilder name = new StringBuilder(faker.name().firstName());
+                while (name.length() < LONG_NAME_LENGTH) {
+                    name.append(' ').append(faker.name().lastName());
+                }
+                return name.substring(0, LONG_NAME_LENGTH).trim();
+        }
+    }
+
+    private static String longNotes(String prefix, Faker faker, int length) {
+        StringBuilder notes = new StringBuilder(prefix);
+        while (notes.length() < length) {
+            notes.append(' ').append(faker.lorem().paragraph(5));
+        }
+        return notes.substring(0, Math.max(prefix.length(), length)).trim();
+    }
+
+    /**
+     * Picks a slot on a calendar edge near the given date.
+     */
+    private static LocalDateTime[] boundarySlot(LocalDate date, Random random) {
+        switch (random.nextInt(5)) {
+            case 0: {
+                // Crosses midnight
+                LocalDateTime start = date.atTime(23, 45);
+                return new LocalDateTime[]{start, start.plusMinutes(30)};
+            }
+            case 1: {
+                // Starts at midnight
+                LocalDateTime start = date.atStartOfDay();
+                return new LocalDateTime[]{start, start.plusMinutes(30)};
+            }
+            case 2: {
+                // Shortest possible slot
+                LocalDateTime start = date.atTime(LocalTime.NOON);
+                return new LocalDateTime[]{start, start.plusMinutes(1)};
+            }
+            case 3: {
+                // Crosses the end of the month
+                LocalDateTime start = date.withDayOfMonth(date.lengthOfMonth()).atTime(23, 30);
+                return new LocalDateTime[]{start, start.plusMinutes(30)};
+            }
+            default: {
+                // Crosses the end of the year
+                LocalDateTime start = LocalDate.of(date.getYear(), 12, 31).atTime(23, 59);
+                return new LocalDateTime[]{start, start.plusMinutes(30)};
+            }
+        }
+    }
+
+    private static LocalDate baseDate() {
+        String configured = AppConfig.getProperty("ambient.ui.scenarios.base.date", "");
+        return configured.isEmpty() ? LocalDate.now().plusDays(1) : LocalDate.parse(configured);
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -1,4 +1,4 @@
-package com.ambient.utils.config;
+package com.ambient.utils.data;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -32,4 +32,14 @@ public class DateTimeHelper {
         LocalDateTime plus30 = LocalDateTime.now().plusMinutes(30);
         return plus30.format(FORMATTER);
     }
+
+    /**
+     * Formats a date and time in ISO format (yyyy-MM-dd'T'HH:mm) as used by the appointment form.
+     *
+     * @param dateTime the date and time to format
+     * @return formatted date-time string
+     */
+    public static String format(LocalDateTime dateTime) {
+        return dateTime.format(FORMATTER);
+    }
 }
@@ -0,0 +1,56 @@
+package com.ambient.utils.data;
+
+import com.ambient.utils.config.AppConfig;
+import com.github.javafaker.Faker;
+
+import java.util.UUID;
+
+/**
+ * Utility class for generating fake names and notes for testing purposes.
+ *
+ * <p>Uses the {@link Faker} library to create realistic-looking data that helps simulate
+ * real-world inputs during test execution.</p>
+ */
+public class NameHelper {
+
+    /**
+     * Holds the shared Faker instance. Building it loads Faker's locale YAML, so it is deferred until
+     * data is first generated instead of happening when the class is loaded.
+     */
+    private static final class FakerHolder {
+        private static final Faker FAKER = new Faker();
+    }
+
+    // Identifies data created by this run; CI can pin it with -Dambient.run.id
+    private static final String RUN_ID = AppConfig.getProperty("ambient.run.id",
+            UUID.randomUUID().toString().substring(0, 8));
+
+    /**
+     * Generates a random full name consisting of a first and last name.
+     *
+     * @return A full name in the format "First Last".
+     */
+    public static String generateRandomFullName() {
+        Faker faker = FakerHolder.FAKER;
+        return faker.name().firstName() + " " + faker.name().lastName();
+    }
+
+    /**
+     * Generates a sample note string using a random sentence, tagged with the run marker
+     * so that appointments created by this run can be found and cleaned up afterwards.
+     *
+     * @return A note in the format "test notes - [run-id] [random sentence]".
+     */
+    public static String generateNotes() {
+        return "test notes - " + getRunMarker() + " " + FakerHolder.FAKER.lorem().sentence();
+    }
+
+    /**
+     * Returns the marker embedded in generated notes for the current run.
+     *
+     * @return A marker in the format "[run-id]".
+     */
+    public static String getRunMarker() {
+        return "[run-" + RUN_ID + "]";
+    }
+}
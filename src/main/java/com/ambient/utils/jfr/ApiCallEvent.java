@@ -0,0 +1,31 @@
+package com.ambient.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a single REST call made through {@code RestCall}. The event duration is the call latency.
+ */
+@Name("com.ambient.ApiCall")
+@Label("API Call")
+@Category({"Ambient", "API"})
+@Description("HTTP request sent by the API client")
+public class ApiCallEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+}
@@ -0,0 +1,23 @@
+package com.ambient.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for starting or quitting a browser session in {@code DriverFactory}.
+ */
+@Name("com.ambient.DriverLifecycle")
+@Label("Driver Lifecycle")
+@Category({"Ambient", "UI"})
+@Description("Browser session start or quit")
+public class DriverLifecycleEvent extends Event {
+
+    @Label("Action")
+    public String action;
+
+    @Label("Browser")
+    public String browser;
+}
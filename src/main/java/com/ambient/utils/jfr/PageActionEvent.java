@@ -0,0 +1,26 @@
+package com.ambient.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for an interaction or wait performed by a page object through {@code BasePage}.
+ */
+@Name("com.ambient.PageAction")
+@Label("Page Action")
+@Category({"Ambient", "UI"})
+@Description("Element interaction or wait performed by a page object")
+public class PageActionEvent extends Event {
+
+    @Label("Page")
+    public String page;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Target")
+    public String target;
+}
@@ -0,0 +1,23 @@
+package com.ambient.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for page-object construction in {@code WebUser.getPage}, including its readiness checks.
+ */
+@Name("com.ambient.PageLoad")
+@Label("Page Load")
+@Category({"Ambient", "UI"})
+@Description("Page object construction, including waiting for mandatory elements")
+public class PageLoadEvent extends Event {
+
+    @Label("Page")
+    public String page;
+
+    @Label("Network Profile")
+    public String networkProfile;
+}
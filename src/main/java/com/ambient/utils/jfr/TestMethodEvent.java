@@ -0,0 +1,23 @@
+package com.ambient.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one test method, so API calls and page actions can be grouped per test in JMC.
+ */
+@Name("com.ambient.TestMethod")
+@Label("Test Method")
+@Category({"Ambient", "Test"})
+@Description("Execution of a single test method")
+public class TestMethodEvent extends Event {
+
+    @Label("Test")
+    public String test;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,42 @@
+// Collects Navigation Timing, paint and Web Vitals metrics for the current document.
+// Runs through executeAsyncScript: buffered PerformanceObservers deliver entries recorded
+// before the script ran, then the result is returned after a short settle delay.
+var done = arguments[arguments.length - 1];
+var metrics = {cls: 0, tbt: 0, lcp: null, inp: null};
+var observers = [];
+
+function watch(type, options, onEntry) {
+    try {
+        var observer = new PerformanceObserver(function (list) {
+            list.getEntries().forEach(onEntry);
+        });
+        observer.observe(Object.assign({type: type, buffered: true}, options));
+        observers.push(observer);
+    } catch (e) {
+        // Entry type not supported by this browser
+    }
+}
+
+watch('largest-contentful-paint', {}, function (e) { metrics.lcp = e.startTime; });
+watch('layout-shift', {}, function (e) { if (!e.hadRecentInput) metrics.cls += e.value; });
+watch('longtask', {}, function (e) { metrics.tbt += Math.max(0, e.duration - 50); });
+watch('event', {durationThreshold: 16}, function (e) {
+    if (e.interactionId) metrics.inp = Math.max(metrics.inp || 0, e.duration);
+});
+
+setTimeout(function () {
+    observers.forEach(function (observer) { observer.disconnect(); });
+    var nav = performance.getEntriesByType('navigation')[0];
+    var paint = {};
+    performance.getEntriesByType('paint').forEach(function (p) { paint[p.name] = p.startTime; });
+    metrics.timeOrigin = performance.timeOrigin;
+    metrics.url = location.href;
+    if (nav) {
+        metrics.ttfb = nav.responseStart;
+        metrics.domContentLoaded = nav.domContentLoadedEventEnd;
+        metrics.load = nav.loadEventEnd;
+    }
+    metrics.firstPaint = paint['first-paint'] || null;
+    metrics.fcp = paint['first-contentful-paint'] || null;
+    done(metrics);
+}, 50);
@@ -1,8 +1,33 @@
 package com.ambient;
 
+import com.ambient.api.client.LatencyRecorder;
+import com.ambient.api.client.RestCall;
 import com.ambient.api.client.Services;
+import com.ambient.api.client.SlaResult;
+import com.ambient.api.services.TestDataRegistry;
+import com.ambient.runner.ShardPlanner;
+import com.ambient.runner.SmartRetryAnalyzer;
+import com.ambient.runner.StartupTiming;
+import com.ambient.runner.SuiteReports;
 import com.ambient.ui.WebUser;
+import com.ambient.ui.artifacts.FailureArtifacts;
+import com.ambient.ui.network.NetworkCapture;
+import com.ambient.ui.network.NetworkEmulation;
+import com.ambient.utils.config.AppConfig;
+import com.ambient.utils.jfr.TestMethodEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.ITestResult;
+import org.testng.SkipException;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Base test class providing common functionality for both API and UI test setups.
@@ -10,25 +35,29 @@ import org.testng.annotations.AfterMethod;
  * <p>Includes lazy initialization of API service and web UI helpers,
  * and ensures cleanup after each test method execution.</p>
  */
+@Slf4j
 public class AbstractTest {
 
     /** Thread-safe instance of API service client */
-    protected ThreadLocal<Services> api;
+    protected final ThreadLocal<Services> api = ThreadLocal.withInitial(Services::new);
+
+    /** Thread-safe instance of the web UI helper; test methods of one class may run in parallel */
+    protected final ThreadLocal<WebUser> web = new ThreadLocal<>();
 
-    /** Instance of the web UI helper */
-    protected WebUser web;
+    /** JFR event spanning the currently running test method on this thread */
+    private final ThreadLocal<TestMethodEvent> testEvent = new ThreadLocal<>();
 
     /**
-     * Provides a lazily initialized instance of the {@link WebUser} helper.
+     * Provides a lazily initialized instance of the {@link WebUser} helper for the current thread.
      *
      * @return the active {@link WebUser} instance
      */
     public WebUser web() {
-        // Build a new WebUser if it's null or the driver is no longer available
-        if (web == null || WebUser.getDriver() == null) {
-            web = WebUser.build();
+        // Build a new WebUser if this thread has none or its driver is no longer available
+        if (web.get() == null || !WebUser.hasDriver()) {
+            web.set(WebUser.build());
         }
-        return web;
+        return web.get();
     }
 
     /**
@@ -37,28 +66,143 @@ public class AbstractTest {
      * @return the {@link Services} instance for the current thread
      */
     public Services api() {
-        // Initialize thread-local Services instance if needed
-        if (api == null || api.get() == null) {
-            api = ThreadLocal.withInitial(Services::new);
-        }
         return api.get();
     }
 
+    /**
+     * Marks the suite start for the startup timing report. Browser sessions are pre-warmed by
+     * {@link com.ambient.runner.BrowserPrewarmer} once each {@code <test>} knows which tests it runs.
+     */
+    @BeforeSuite(alwaysRun = true)
+    public final void beforeSuite() {
+        StartupTiming.mark("suite start");
+    }
+
+    /**
+     * Starts the JFR event that spans the test method; the first call also marks when the first test began.
+     * <p>With {@code ambient.api.failfast=true}, tests are skipped once the backend is known to be unreachable,
+     * so a dead backend ends the run in seconds instead of every test timing out.</p>
+     * <p>For UI tests, also selects the network profile the test's browser session will emulate.</p>
+     *
+     * @param method the test method about to run
+     */
+    @BeforeMethod(alwaysRun = true)
+    public final void beforeMethod(Method method) {
+        StartupTiming.mark("first test");
+        TestMethodEvent event = new TestMethodEvent();
+        event.test = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        event.begin();
+        testEvent.set(event);
+        if (ShardPlanner.isUiTest(getClass().getName() + "." + method.getName())) {
+            NetworkEmulation.select(getClass(), method);
+        }
+
+        if (AppConfig.getBooleanProperty("ambient.api.failfast", false) && !RestCall.isBackendAvailable()) {
+            throw new SkipException("Backend unavailable: " + RestCall.describeBackend());
+        }
+    }
+
     /**
      * Cleans up resources after each test method execution.
-     * <p>This includes clearing the thread-local API service and quitting the web driver.</p>
+     * <p>This includes clearing the thread-local API service and quitting the web driver. When the
+     * {@link SmartRetryAnalyzer} is going to retry a failed test, both are kept for the retry and only the
+     * browser state is cleared.</p>
+     *
+     * @param result the outcome of the test method that just ran
      */
     @AfterMethod(alwaysRun = true)
-    public final void afterMethod() {
-        // Clear thread-local API service
-        if (api != null) {
-            api = null;
+    public final void afterMethod(ITestResult result) {
+        // Close the JFR event spanning this test
+        TestMethodEvent event = testEvent.get();
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.status = result.isSuccess() ? "PASSED" : result.getStatus() == ITestResult.SKIP ? "SKIPPED" : "FAILED";
+                event.commit();
+            }
+            testEvent.remove();
+        }
+
+        // A failed test about to be retried on this thread keeps its warm browser session and REST client
+        boolean retrying = SmartRetryAnalyzer.willRetry(result);
+        if (!retrying) {
+            // Clear thread-local API service and the test's network profile
+            api.remove();
+            if (ShardPlanner.isUiTest(result.getMethod().getQualifiedName())) {
+                NetworkEmulation.clear();
+            }
         }
 
-        // Quit the driver and nullify WebUser instance
-        if (web != null) {
+        // Quit this thread's driver and clear its WebUser instance
+        if (web.get() != null) {
+            String testName = testName(result);
+            if (result.getStatus() == ITestResult.FAILURE && WebUser.hasDriver()) {
+                // Grab screenshot, DOM and console now; they are written in the background
+                FailureArtifacts.capture(WebUser.getDriver(), testName);
+            }
+            NetworkCapture.publish(testName);
+            if (retrying && WebUser.hasDriver() && resetForRetry()) {
+                return;
+            }
             WebUser.quitDriver();
-            web = null;
+            web.remove();
+        }
+    }
+
+    /**
+     * Clears the browser session for the retry of a failed test.
+     *
+     * @return false if the session is unusable and has to be replaced
+     */
+    private static boolean resetForRetry() {
+        try {
+            WebUser.resetSession();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Browser session cannot be reused for the retry: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Names a test result for artifact files and attachments. Data-driven invocations include their parameters,
+     * so each invocation gets its own HAR file and failure artifacts.
+     *
+     * @param result the test result
+     * @return the class and method name, followed by the parameters in brackets if there are any
+     */
+    private static String testName(ITestResult result) {
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getName();
+        Object[] parameters = result.getParameters();
+        if (parameters == null || parameters.length == 0) {
+            return name;
+        }
+        String suffix = Arrays.stream(parameters).map(String::valueOf).collect(Collectors.joining(","));
+        // Parameters end up in file names
+        suffix = suffix.replaceAll("[^\\w.,\\-]", "_");
+        return name + "[" + (suffix.length() > 100 ? suffix.substring(0, 100) : suffix) + "]";
+    }
+
+    /**
+     * Publishes run-level reports and removes the appointments created during the run once the whole
+     * suite has finished.
+     * <p>Cleanup can be switched off with {@code ambient.cleanup.enabled=false} to keep data for debugging.
+     * API latency budget violations fail the run unless {@code ambient.api.latency.enforce=false}.</p>
+     */
+    @AfterSuite(alwaysRun = true)
+    public final void afterSuite() {
+        // Evaluate API latency budgets before cleanup adds its own calls
+        List<SlaResult> slaResults = LatencyRecorder.evaluate();
+        SuiteReports.publish(slaResults);
+
+        if (AppConfig.getBooleanProperty("ambient.cleanup.enabled", true)) {
+            TestDataRegistry.cleanup(new Services().getAppointmentService());
+        }
+
+        List<String> violations = new ArrayList<>();
+        slaResults.forEach(result -> violations.addAll(result.getViolations()));
+        if (!violations.isEmpty() && AppConfig.getBooleanProperty("ambient.api.latency.enforce", true)) {
+            throw new AssertionError("API latency budgets violated:\n" + String.join("\n", violations));
         }
     }
 }
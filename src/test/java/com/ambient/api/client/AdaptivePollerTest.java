@@ -0,0 +1,115 @@
+package com.ambient.api.client;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for {@link AdaptivePoller} interval growth, capping and timeouts.
+ *
+ * <p>Every test creates a poller of its own with explicit settings and removes it afterwards. Sleeps may overrun
+ * but never end early, so gaps are only checked against lower bounds and wide upper bounds.</p>
+ */
+public class AdaptivePollerTest {
+
+    private final List<String> created = new ArrayList<>();
+
+    @AfterMethod(alwaysRun = true)
+    public void removePollers() {
+        created.forEach(AdaptivePoller::remove);
+        created.clear();
+    }
+
+    @Test
+    public void pollsImmediatelyThenGrowsTheIntervalByHalf() {
+        AdaptivePoller poller = newPoller(160, 40, 1000, 10000);
+        List<Long> polls = new ArrayList<>();
+
+        int value = poller.await("reaches 6", () -> {
+            polls.add(System.nanoTime());
+            return polls.size();
+        }, count -> count == 6);
+
+        assertEquals(value, 6);
+        List<Long> gaps = gapsMillis(polls);
+        // A quarter of the expected 160 ms wait, then 1.5x per poll: 40, 60, 90, 135, 202
+        double interval = 40;
+        for (long gap : gaps) {
+            assertTrue(gap >= (long) interval - 1, "gap " + gap + " ms shorter than " + interval + " ms in " + gaps);
+            interval *= 1.5;
+        }
+        assertTrue(gaps.get(gaps.size() - 1) > 3 * gaps.get(0), "interval did not grow: " + gaps);
+    }
+
+    @Test
+    public void capsTheIntervalAtTheMaximum() {
+        AdaptivePoller poller = newPoller(160, 40, 50, 10000);
+        List<Long> polls = new ArrayList<>();
+
+        poller.await("reaches 6", () -> {
+            polls.add(System.nanoTime());
+            return polls.size();
+        }, count -> count == 6);
+
+        List<Long> gaps = gapsMillis(polls);
+        // Uncapped, the last interval would be 202 ms
+        gaps.forEach(gap -> assertTrue(gap >= 39 && gap < 150, "gap " + gap + " ms outside the cap in " + gaps));
+    }
+
+    @Test
+    public void nullPollSkipsTheCondition() {
+        AdaptivePoller poller = newPoller(40, 10, 10, 10000);
+        List<Long> polls = new ArrayList<>();
+
+        String value = poller.await("is ready", () -> {
+            polls.add(System.nanoTime());
+            return polls.size() < 3 ? null : "ready";
+        }, "ready"::equals);
+
+        assertEquals(value, "ready");
+        assertEquals(polls.size(), 3);
+    }
+
+    @Test
+    public void removedPollersLeaveTheSummary() {
+        AdaptivePoller poller = newPoller(40, 10, 10, 10000);
+        poller.await("is ready", () -> "ready", "ready"::equals);
+        String name = created.get(0);
+        assertTrue(AdaptivePoller.summary().contains(name + ": 1 wait(s)"), AdaptivePoller.summary());
+
+        AdaptivePoller.remove(name);
+
+        assertFalse(AdaptivePoller.summary().contains(name), AdaptivePoller.summary());
+    }
+
+    @Test
+    public void timesOutWithTheNumberOfPolls() {
+        AdaptivePoller poller = newPoller(40, 10, 10, 100);
+
+        AssertionError error = expectThrows(AssertionError.class,
+                () -> poller.await("is ready", () -> "not yet", "ready"::equals));
+
+        assertTrue(error.getMessage().startsWith("Timed out after 100 ms waiting until"), error.getMessage());
+        assertTrue(error.getMessage().matches(".*\\(\\d+ poll\\(s\\)\\)"), error.getMessage());
+    }
+
+    private AdaptivePoller newPoller(long initialWaitMs, long minIntervalMs, long maxIntervalMs, long timeoutMs) {
+        String name = "test-" + UUID.randomUUID();
+        created.add(name);
+        return AdaptivePoller.of(name, initialWaitMs, minIntervalMs, maxIntervalMs, timeoutMs);
+    }
+
+    private static List<Long> gapsMillis(List<Long> pollNanos) {
+        List<Long> gaps = new ArrayList<>();
+        for (int i = 1; i < pollNanos.size(); i++) {
+            gaps.add(TimeUnit.NANOSECONDS.toMillis(pollNanos.get(i) - pollNanos.get(i - 1)));
+        }
+        return gaps;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ambient.api.client;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for {@link CircuitBreaker} state transitions.
+ *
+ * <p>Every test creates a circuit of its own that opens after two failures and removes it afterwards.</p>
+ */
+public class CircuitBreakerTest {
+
+    private final List<String> created = new ArrayList<>();
+
+    @AfterMethod(alwaysRun = true)
+    public void removeCircuits() {
+        created.forEach(CircuitBreaker::remove);
+        created.clear();
+    }
+
+    @Test
+    public void opensAfterConsecutiveFailuresAndRejectsCalls() {
+        CircuitBreaker circuit = newCircuit(TimeUnit.SECONDS.toMillis(60));
+
+        circuit.onFailure("first");
+        assertTrue(circuit.tryAcquire(), "one failure is below the threshold");
+        circuit.onFailure("second");
+
+        assertTrue(circuit.isOpen());
+        assertFalse(circuit.tryAcquire());
+        assertTrue(circuit.describe().contains("is OPEN after 2 consecutive failure(s) (last: second)"),
+                circuit.describe());
+    }
+
+    @Test
+    public void successResetsTheFailureCount() {
+        CircuitBreaker circuit = newCircuit(TimeUnit.SECONDS.toMillis(60));
+
+        circuit.onFailure("first");
+        circuit.onSuccess();
+        circuit.onFailure("second");
+
+        assertFalse(circuit.isOpen());
+        assertTrue(circuit.tryAcquire());
+    }
+
+    @Test
+    public void letsOneProbeThroughOnceTheWaitElapsed() {
+        CircuitBreaker circuit = newCircuit(0);
+        circuit.onFailure("first");
+        circuit.onFailure("second");
+
+        assertTrue(circuit.tryAcquire(), "probe");
+        assertTrue(circuit.describe().contains("is HALF_OPEN"), circuit.describe());
+        assertFalse(circuit.tryAcquire(), "a second call while the probe is in flight");
+    }
+
+    @Test
+    public void successfulProbeClosesTheCircuit() {
+        CircuitBreaker circuit = newCircuit(0);
+        circuit.onFailure("first");
+        circuit.onFailure("second");
+        assertTrue(circuit.tryAcquire());
+
+        circuit.onSuccess();
+
+        assertTrue(circuit.describe().contains("is CLOSED"), circuit.describe());
+        assertTrue(circuit.tryAcquire());
+        assertTrue(circuit.tryAcquire());
+    }
+
+    @Test
+    public void failedProbeOpensTheCircuitAgain() {
+        CircuitBreaker circuit = newCircuit(0);
+        circuit.onFailure("first");
+        circuit.onFailure("second");
+        assertTrue(circuit.tryAcquire());
+
+        circuit.onFailure("probe");
+
+        assertTrue(circuit.describe().contains("is OPEN after 3 consecutive failure(s) (last: probe)"),
+                circuit.describe());
+        assertTrue(CircuitBreaker.summary().contains("2x opened"), CircuitBreaker.summary());
+    }
+
+    @Test
+    public void removedCircuitsLeaveTheSummary() {
+        CircuitBreaker circuit = newCircuit(TimeUnit.SECONDS.toMillis(60));
+        circuit.onFailure("first");
+        circuit.onFailure("second");
+        String name = created.get(0);
+        assertTrue(CircuitBreaker.summary().contains("1x opened, now circuit '" + name + "'"), CircuitBreaker.summary());
+
+        CircuitBreaker.remove(name);
+
+        assertFalse(CircuitBreaker.summary().contains(name), CircuitBreaker.summary());
+    }
+
+    @Test
+    public void abandonedProbeCanBeRetriedStraightAway() {
+        CircuitBreaker circuit = newCircuit(0);
+        circuit.onFailure("first");
+        circuit.onFailure("second");
+        assertTrue(circuit.tryAcquire());
+
+        circuit.abandon();
+
+        assertTrue(circuit.tryAcquire(), "next probe");
+        assertTrue(circuit.describe().contains("is HALF_OPEN"), circuit.describe());
+    }
+
+    private CircuitBreaker newCircuit(long openMillis) {
+        String name = "test-" + UUID.randomUUID();
+        created.add(name);
+        return CircuitBreaker.of(name, 2, openMillis);
+    }
+}
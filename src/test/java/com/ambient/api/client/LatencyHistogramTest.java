@@ -0,0 +1,72 @@
+package com.ambient.api.client;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for {@link LatencyHistogram} buckets and percentiles.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(histogram.getCount(), 0);
+        assertEquals(histogram.getMeanMillis(), 0.0);
+        assertEquals(histogram.getPercentileMillis(99), 0.0);
+    }
+
+    @Test
+    public void bucketsCoverEveryValueWithinPrecision() {
+        for (long micros : new long[]{0, 1, 15, 16, 17, 31, 32, 1_000, 1_023, 1_024, 123_456, 60_000_000}) {
+            int index = LatencyHistogram.indexOf(micros);
+            assertTrue(LatencyHistogram.lowerBound(index) <= micros, "lower bound of " + micros);
+            assertTrue(micros < LatencyHistogram.lowerBound(index + 1), "upper bound of " + micros);
+            assertTrue(LatencyHistogram.lowerBound(index + 1) - LatencyHistogram.lowerBound(index)
+                    <= Math.max(1, micros / 16), "bucket width at " + micros);
+        }
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(5));
+        assertEquals(histogram.getPercentileMillis(50), 0.005);
+    }
+
+    @Test
+    public void percentilesNeverUnderstateAndStayWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 100).forEach(ms -> histogram.record(TimeUnit.MILLISECONDS.toNanos(ms)));
+
+        assertEquals(histogram.getCount(), 100);
+        assertEquals(histogram.getMeanMillis(), 50.5, 0.001);
+        for (int percentile : new int[]{50, 90, 95, 99}) {
+            double value = histogram.getPercentileMillis(percentile);
+            assertTrue(value >= percentile && value <= percentile * 1.0625, "p" + percentile + " = " + value);
+        }
+        // The top bucket is capped at the largest sample
+        assertEquals(histogram.getPercentileMillis(100), 100.0);
+        assertEquals(histogram.getMaxMillis(), 100.0);
+    }
+
+    @Test
+    public void concurrentRecordsAreAllCounted() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            pool.execute(() -> IntStream.range(0, 10_000).forEach(i -> histogram.record(TimeUnit.MILLISECONDS.toNanos(2))));
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(histogram.getCount(), 40_000);
+        assertEquals(histogram.getPercentileMillis(50), 2.0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ambient.runner;
+
+import com.ambient.ui.BrowserPool;
+import com.ambient.utils.config.AppConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.util.List;
+
+/**
+ * Starts pre-warming browser sessions for the UI tests a {@code <test>} is about to run, so they start while
+ * API tests run.
+ *
+ * <p>Registered after {@link ShardInterceptor}, so it only counts the UI invocations ({@link ShardPlanner#isUiTest})
+ * left in this shard. A data-driven method counts once, as its number of rows is not known before it runs; the
+ * pool never starts more sessions than tests will take. One session is kept starting ahead per worker of the
+ * {@code <test>}.</p>
+ *
+ * <p>Disable with {@code ambient.ui.prewarm.enabled=false}; {@code ambient.ui.prewarm.sessions} overrides the
+ * number of sessions per {@code <test>}.</p>
+ */
+@Slf4j
+public class BrowserPrewarmer implements IMethodInterceptor {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!AppConfig.getBooleanProperty("ambient.ui.prewarm.enabled", true)) {
+            return methods;
+        }
+        int invocations = methods.stream()
+                .filter(method -> ShardPlanner.isUiTest(method.getMethod().getQualifiedName()))
+                .mapToInt(method -> Math.max(1, method.getMethod().getInvocationCount()))
+                .sum();
+        if (invocations == 0) {
+            // No browser tests here: keep browser classes off the startup path
+            return methods;
+        }
+        int sessions = AppConfig.getIntProperty("ambient.ui.prewarm.sessions", invocations);
+        BrowserPool.prewarm(sessions, Math.max(1, context.getCurrentXmlTest().getThreadCount()));
+        return methods;
+    }
+}
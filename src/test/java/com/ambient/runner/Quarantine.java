@@ -0,0 +1,187 @@
+package com.ambient.runner;
+
+import com.ambient.utils.config.AppConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of flaky tests, i.e. tests that failed and then passed on a retry within the same run.
+ *
+ * <p>A flaky test is quarantined: {@link WorkerPoolSizer} moves it into its own small {@code <test>} pool for the
+ * following runs. That pool runs in parallel with the regular pools on threads of its own; it separates flaky
+ * tests in the report and caps how many run at once, it does not run them at a lower priority. After
+ * {@code ambient.quarantine.release.after} consecutive runs passing at the first attempt (default 5) it is released
+ * again. State is kept in {@code ambient.quarantine.file} (default {@code .ambient/quarantine.csv}, outside
+ * {@code target/} so {@code mvn clean} keeps it); on CI, cache that file between runs. Quarantining is disabled with
+ * {@code ambient.quarantine.enabled=false}.</p>
+ */
+@Slf4j
+public class Quarantine {
+
+    private static final String CSV_HEADER = "test,flakyRuns,cleanRuns,lastFlaky";
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>(load());
+    private static final Set<String> flakyThisRun = ConcurrentHashMap.newKeySet();
+    private static final Set<String> failedThisRun = ConcurrentHashMap.newKeySet();
+    private static final Set<String> passedThisRun = ConcurrentHashMap.newKeySet();
+
+    private Quarantine() {
+        // Utility class
+    }
+
+    /**
+     * Checks whether quarantining is switched on.
+     */
+    public static boolean isEnabled() {
+        return AppConfig.getBooleanProperty("ambient.quarantine.enabled", true);
+    }
+
+    /**
+     * Returns the qualified names ({@code package.Class.method}) of the quarantined tests.
+     */
+    public static Set<String> quarantined() {
+        return isEnabled() ? Set.copyOf(entries.keySet()) : Set.of();
+    }
+
+    /**
+     * Records a test invocation that passed after a retry.
+     *
+     * @param test qualified test name
+     */
+    static void recordFlaky(String test) {
+        flakyThisRun.add(test);
+    }
+
+    /**
+     * Records a test invocation that passed at the first attempt.
+     *
+     * @param test qualified test name
+     */
+    static void recordPass(String test) {
+        passedThisRun.add(test);
+    }
+
+    /**
+     * Records a test invocation that failed after all attempts.
+     *
+     * @param test qualified test name
+     */
+    static void recordFailure(String test) {
+        failedThisRun.add(test);
+    }
+
+    /**
+     * Lists the tests that were flaky in this run and the quarantined tests released by it.
+     *
+     * @return the report, or an empty string if nothing changed
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        new TreeSet<>(flakyThisRun).forEach(test -> report.append("Flaky (quarantined): ")
+                .append(test).append(System.lineSeparator()));
+        int releaseAfter = releaseAfter();
+        entries.forEach((test, entry) -> {
+            if (passedClean(test) && entry.cleanRuns + 1 >= releaseAfter) {
+                report.append("Released after ").append(releaseAfter).append(" clean run(s): ").append(test)
+                        .append(System.lineSeparator());
+            }
+        });
+        return report.toString();
+    }
+
+    /**
+     * Updates the quarantine with this run's results and writes it to {@code ambient.quarantine.file}.
+     * Flaky tests are added or have their clean-run count reset; quarantined tests that only passed at the
+     * first attempt count a clean run and are released once they reach the threshold.
+     */
+    public static synchronized void save() {
+        if (!isEnabled() || (flakyThisRun.isEmpty() && entries.isEmpty())) {
+            return;
+        }
+        int releaseAfter = releaseAfter();
+        Map<String, Entry> updated = new TreeMap<>();
+        entries.forEach((test, entry) -> {
+            if (flakyThisRun.contains(test)) {
+                return;
+            }
+            if (!passedClean(test)) {
+                // Not run or failed outright: no evidence either way
+                updated.put(test, entry);
+            } else if (entry.cleanRuns + 1 < releaseAfter) {
+                updated.put(test, new Entry(entry.flakyRuns, entry.cleanRuns + 1, entry.lastFlaky));
+            } else {
+                log.info("Releasing {} from quarantine after {} clean run(s)", test, releaseAfter);
+            }
+        });
+        String now = Instant.now().toString();
+        flakyThisRun.forEach(test -> {
+            Entry previous = entries.get(test);
+            updated.put(test, new Entry(previous == null ? 1 : previous.flakyRuns + 1, 0, now));
+        });
+
+        Path file = file();
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append(System.lineSeparator());
+        updated.forEach((test, entry) -> csv.append(String.join(",", test, String.valueOf(entry.flakyRuns),
+                String.valueOf(entry.cleanRuns), entry.lastFlaky)).append(System.lineSeparator()));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, csv);
+        } catch (IOException e) {
+            log.warn("Could not write quarantine file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static boolean passedClean(String test) {
+        return passedThisRun.contains(test) && !failedThisRun.contains(test) && !flakyThisRun.contains(test);
+    }
+
+    private static int releaseAfter() {
+        return Math.max(1, AppConfig.getIntProperty("ambient.quarantine.release.after", 5));
+    }
+
+    private static Path file() {
+        return Path.of(AppConfig.getProperty("ambient.quarantine.file", ".ambient/quarantine.csv"));
+    }
+
+    private static Map<String, Entry> load() {
+        Path file = file();
+        Map<String, Entry> loaded = new TreeMap<>();
+        if (Files.notExists(file)) {
+            return loaded;
+        }
+        try {
+            List<String> lines = Files.readAllLines(file);
+            for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+                String[] fields = line.split(",", -1);
+                if (fields.length == 4 && !fields[0].isBlank()) {
+                    loaded.put(fields[0], new Entry(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]), fields[3]));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable quarantine file {}: {}", file, e.getMessage());
+            return new TreeMap<>();
+        }
+        if (!loaded.isEmpty()) {
+            log.info("{} test(s) in quarantine: {}", loaded.size(), loaded.keySet());
+        }
+        return loaded;
+    }
+
+    /**
+     * Quarantine state of one test.
+     */
+    private record Entry(int flakyRuns, int cleanRuns, String lastFlaky) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.ambient.runner;
+
+import com.ambient.utils.config.AppConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Restricts a run to one shard of the suite.
+ *
+ * <p>Enabled when {@code ambient.shard.total} is greater than 1. Each CI node or JVM fork runs
+ * the same suite with a different zero-based {@code ambient.shard.index}, for example:</p>
+ * <pre>
+ * mvn test -Dambient.shard.total=4 -Dambient.shard.index=0
+ * </pre>
+ * <p>Durations come from the Allure results in {@code ambient.shard.history.dir}
+ * (default {@code target/allure-results}); keep that directory from a previous run to balance by real timings.</p>
+ */
+@Slf4j
+public class ShardInterceptor implements IMethodInterceptor {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int total = AppConfig.getIntProperty("ambient.shard.total", 1);
+        if (total <= 1) {
+            return methods;
+        }
+        int index = AppConfig.getIntProperty("ambient.shard.index", 0);
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException(
+                    "ambient.shard.index must be between 0 and " + (total - 1) + ", got " + index);
+        }
+
+        Path historyDir = Path.of(AppConfig.getProperty("ambient.shard.history.dir", "target/allure-results"));
+        ShardPlanner planner = new ShardPlanner(TestDurationHistory.fromAllureResults(historyDir), total);
+
+        List<String> names = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            names.add(method.getMethod().getQualifiedName());
+        }
+        Map<String, Integer> plan = planner.plan(names);
+
+        List<IMethodInstance> selected = new ArrayList<>();
+        long estimatedMillis = 0;
+        for (IMethodInstance method : methods) {
+            String name = method.getMethod().getQualifiedName();
+            if (plan.get(name) == index) {
+                selected.add(method);
+                estimatedMillis += planner.estimateMillis(name);
+            }
+        }
+        log.info("Shard {}/{} of '{}': running {} of {} tests, estimated {} ms",
+                index, total, context.getName(), selected.size(), methods.size(), estimatedMillis);
+        return selected;
+    }
+}
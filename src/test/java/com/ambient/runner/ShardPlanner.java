@@ -0,0 +1,98 @@
+package com.ambient.runner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Splits a list of tests into balanced shards using historical durations.
+ *
+ * <p>UI and API tests are packed separately with greedy longest-processing-time-first bin packing,
+ * so every shard gets a balanced share of both the slow browser tests and the cheap API tests.
+ * Ties are broken by name, so every node computes the same plan from the same history.</p>
+ */
+public class ShardPlanner {
+
+    private static final long DEFAULT_API_MILLIS = 1_000;
+    private static final long DEFAULT_UI_MILLIS = 30_000;
+
+    private final TestDurationHistory history;
+    private final int shardCount;
+
+    /**
+     * @param history    historical durations used to weigh tests
+     * @param shardCount number of shards to produce
+     */
+    public ShardPlanner(TestDurationHistory history, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, got " + shardCount);
+        }
+        this.history = history;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Assigns every test to a shard.
+     *
+     * @param testNames fully qualified test method names
+     * @return a map from test name to zero-based shard index
+     */
+    public Map<String, Integer> plan(List<String> testNames) {
+        List<String> uiTests = new ArrayList<>();
+        List<String> apiTests = new ArrayList<>();
+        for (String name : testNames) {
+            (isUiTest(name) ? uiTests : apiTests).add(name);
+        }
+
+        Map<String, Integer> assignment = new HashMap<>();
+        long[] load = new long[shardCount];
+        pack(uiTests, load, assignment);
+        pack(apiTests, load, assignment);
+        return assignment;
+    }
+
+    /**
+     * Estimates a test's duration, falling back to the default for its kind when it has no history.
+     *
+     * @param testName fully qualified test method name
+     * @return the estimated duration in milliseconds
+     */
+    public long estimateMillis(String testName) {
+        Long known = history.getAverageMillis(testName);
+        if (known != null) {
+            return known;
+        }
+        return isUiTest(testName) ? DEFAULT_UI_MILLIS : DEFAULT_API_MILLIS;
+    }
+
+    /**
+     * UI tests are identified by their package, mirroring the {@code tests.ui} / {@code tests.api} layout.
+     *
+     * @param testName fully qualified test method name
+     * @return true for browser tests
+     */
+    public static boolean isUiTest(String testName) {
+        return testName.contains(".tests.ui.");
+    }
+
+    private void pack(List<String> tests, long[] load, Map<String, Integer> assignment) {
+        List<String> ordered = new ArrayList<>(tests);
+        ordered.sort(Comparator.comparingLong(this::estimateMillis).reversed().thenComparing(Comparator.naturalOrder()));
+
+        // Least-loaded shard first; lowest index wins ties
+        PriorityQueue<Integer> shards = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(i -> load[i]).thenComparingInt(i -> i));
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(i);
+        }
+        for (String test : ordered) {
+            int shard = shards.poll();
+            load[shard] += estimateMillis(test);
+            assignment.put(test, shard);
+            shards.add(shard);
+        }
+    }
+}
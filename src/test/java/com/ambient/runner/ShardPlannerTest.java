@@ -0,0 +1,103 @@
+package com.ambient.runner;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for {@link ShardPlanner}'s longest-processing-time-first packing.
+ */
+public class ShardPlannerTest {
+
+    private static final String API = "com.ambient.tests.api.ApiTests.";
+    private static final String UI = "com.ambient.tests.ui.UiTests.";
+
+    private Path resultsDir;
+    private TestDurationHistory history;
+
+    @BeforeClass
+    public void writeHistory() throws IOException {
+        resultsDir = Files.createTempDirectory("allure-results");
+        writeResult("a", API + "tenSeconds", 10_000);
+        writeResult("b", API + "sevenSeconds", 7_000);
+        writeResult("c", API + "fiveSeconds", 5_000);
+        writeResult("d", API + "fourSeconds", 4_000);
+        // Two runs of the same test are averaged
+        writeResult("e1", API + "threeSeconds", 2_000);
+        writeResult("e2", API + "threeSeconds", 4_000);
+        history = TestDurationHistory.fromAllureResults(resultsDir);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteHistory() throws IOException {
+        try (Stream<Path> files = Files.walk(resultsDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void estimatesFromHistoryAndFallsBackToDefaults() {
+        ShardPlanner planner = new ShardPlanner(history, 2);
+        assertEquals(planner.estimateMillis(API + "threeSeconds"), 3_000);
+        assertEquals(planner.estimateMillis(API + "neverRun"), 1_000);
+        assertEquals(planner.estimateMillis(UI + "neverRun"), 30_000);
+    }
+
+    @Test
+    public void packsLongestTestsFirstOntoLeastLoadedShard() {
+        Map<String, Integer> plan = new ShardPlanner(history, 2).plan(List.of(API + "threeSeconds",
+                API + "fourSeconds", API + "fiveSeconds", API + "sevenSeconds", API + "tenSeconds"));
+
+        // 10 -> 0, 7 -> 1, 5 -> 1 (7 < 10), 4 -> 0 (10 < 12), 3 -> 1 (12 < 14)
+        assertEquals(plan, Map.of(API + "tenSeconds", 0, API + "sevenSeconds", 1, API + "fiveSeconds", 1,
+                API + "fourSeconds", 0, API + "threeSeconds", 1));
+    }
+
+    @Test
+    public void spreadsUiTestsBeforePackingApiTests() {
+        Map<String, Integer> plan = new ShardPlanner(history, 2).plan(List.of(API + "tenSeconds", UI + "first",
+                UI + "second", UI + "third"));
+
+        // 30 s UI tests go first, by name: first -> 0, second -> 1, third -> 0; the API test fills shard 1
+        assertEquals(plan, Map.of(UI + "first", 0, UI + "second", 1, UI + "third", 0, API + "tenSeconds", 1));
+    }
+
+    @Test
+    public void breaksTiesByNameIndependentOfInputOrder() {
+        ShardPlanner planner = new ShardPlanner(history, 3);
+        List<String> tests = List.of(API + "x", API + "y", API + "z", API + "w");
+
+        Map<String, Integer> plan = planner.plan(tests);
+        assertEquals(plan, planner.plan(List.of(API + "z", API + "w", API + "y", API + "x")));
+        assertEquals(plan, Map.of(API + "w", 0, API + "x", 1, API + "y", 2, API + "z", 0));
+    }
+
+    @Test
+    public void singleShardTakesEverything() {
+        Map<String, Integer> plan = new ShardPlanner(history, 1).plan(List.of(UI + "first", API + "tenSeconds"));
+        assertEquals(plan, Map.of(UI + "first", 0, API + "tenSeconds", 0));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsZeroShards() {
+        new ShardPlanner(history, 0);
+    }
+
+    private void writeResult(String uuid, String fullName, long durationMillis) throws IOException {
+        long start = 1_700_000_000_000L;
+        Files.writeString(resultsDir.resolve(uuid + "-result.json"), String.format(
+                "{\"fullName\":\"%s\",\"start\":%d,\"stop\":%d}", fullName, start, start + durationMillis));
+    }
+}
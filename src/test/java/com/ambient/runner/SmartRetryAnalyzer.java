@@ -0,0 +1,107 @@
+package com.ambient.runner;
+
+import com.ambient.api.client.RestCall;
+import com.ambient.ui.perf.PerformanceBudgetError;
+import com.ambient.utils.config.AppConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retries a failed test method in the same run, on the same worker thread.
+ *
+ * <p>A failure is retried up to {@code ambient.retry.max.attempts} times (default 2, 0 disables retries) after an
+ * exponential backoff starting at {@code ambient.retry.backoff.ms} (default 500). Because the retry runs on the
+ * same thread, {@code AbstractTest} keeps the test's browser session and REST client for it instead of starting
+ * new ones; see {@link #willRetry(ITestResult)}.</p>
+ *
+ * <p>Failures a retry cannot fix are not retried: {@link IllegalArgumentException} and
+ * {@link IllegalStateException} (bad input, configuration, or an API call rejected by an open circuit),
+ * {@link PerformanceBudgetError} (a retry would only measure a warmer page), and any failure while the backend is
+ * unreachable. Attempts are counted per set of data provider parameters.</p>
+ */
+@Slf4j
+public class SmartRetryAnalyzer implements IRetryAnalyzer {
+
+    private static final String DECISION = SmartRetryAnalyzer.class.getName() + ".retry";
+
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+
+    /**
+     * Decides, before the test's {@code @AfterMethod} runs, whether a failed result will be retried.
+     * The decision is stored on the result so {@link #retry(ITestResult)} makes the same one.
+     *
+     * @param result the result of the attempt that just ran
+     * @return true if the method is going to be run again on this thread
+     */
+    public static boolean willRetry(ITestResult result) {
+        Object decided = result.getAttribute(DECISION);
+        if (decided instanceof Boolean retry) {
+            return retry;
+        }
+        boolean retry = result.getStatus() == ITestResult.FAILURE
+                && result.getMethod().getRetryAnalyzer(result) instanceof SmartRetryAnalyzer analyzer
+                && analyzer.isRetryable(result);
+        result.setAttribute(DECISION, retry);
+        return retry;
+    }
+
+    /**
+     * Returns how many times this invocation has been retried so far.
+     *
+     * @param result a result of the invocation
+     * @return the number of retries, 0 when it has not been retried
+     */
+    public static int retries(ITestResult result) {
+        if (result.getMethod().getRetryAnalyzer(result) instanceof SmartRetryAnalyzer analyzer) {
+            AtomicInteger count = analyzer.attempts.get(key(result));
+            return count == null ? 0 : count.get();
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean retry(ITestResult result) {
+        if (!willRetry(result)) {
+            return false;
+        }
+        int attempt = attempts.computeIfAbsent(key(result), k -> new AtomicInteger()).incrementAndGet();
+        long backoffMs = Math.max(0, AppConfig.getIntProperty("ambient.retry.backoff.ms", 500)) << (attempt - 1);
+        log.warn("Retrying {} (retry {}/{}) in {} ms after: {}", result.getMethod().getQualifiedName(), attempt,
+                maxAttempts(), backoffMs, result.getThrowable());
+        try {
+            Thread.sleep(backoffMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isRetryable(ITestResult result) {
+        AtomicInteger count = attempts.get(key(result));
+        if ((count == null ? 0 : count.get()) >= maxAttempts()) {
+            return false;
+        }
+        Throwable failure = result.getThrowable();
+        if (failure instanceof SkipException || failure instanceof IllegalArgumentException
+                || failure instanceof IllegalStateException || failure instanceof PerformanceBudgetError) {
+            return false;
+        }
+        return RestCall.isBackendAvailable();
+    }
+
+    private static int maxAttempts() {
+        return Math.max(0, AppConfig.getIntProperty("ambient.retry.max.attempts", 2));
+    }
+
+    private static String key(ITestResult result) {
+        return Arrays.deepToString(result.getParameters());
+    }
+}
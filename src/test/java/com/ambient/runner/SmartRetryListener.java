@@ -0,0 +1,40 @@
+package com.ambient.runner;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Applies {@link SmartRetryAnalyzer} to every test method that does not declare its own retry analyzer,
+ * and reports each invocation's final outcome to {@link Quarantine}.
+ */
+public class SmartRetryListener implements IAnnotationTransformer, ITestListener {
+
+    @Override
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> analyzer = annotation.getRetryAnalyzerClass();
+        if (analyzer == null || analyzer == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(SmartRetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        String test = result.getMethod().getQualifiedName();
+        if (SmartRetryAnalyzer.retries(result) > 0) {
+            Quarantine.recordFlaky(test);
+        } else {
+            Quarantine.recordPass(test);
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        Quarantine.recordFailure(result.getMethod().getQualifiedName());
+    }
+}
@@ -0,0 +1,113 @@
+package com.ambient.runner;
+
+import com.ambient.utils.config.AppConfig;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measures how long the test JVM takes to reach the suite and the first test method.
+ *
+ * <p>Each mark records the JVM uptime, the number of loaded classes and JIT compilation time at that point.
+ * {@link #report()} renders the marks with the class-data sharing mode the JVM ran with, and
+ * {@link #appendHistory()} adds a row to {@code ambient.startup.history.file}
+ * (default {@code .ambient/startup-history.csv}, outside {@code target/} so {@code mvn clean} keeps it) so startup
+ * regressions show up across runs.</p>
+ */
+@Slf4j
+public class StartupTiming {
+
+    private static final String CSV_HEADER = "timestamp,cds,suite_start_ms,first_test_ms,classes_at_first_test";
+
+    private static final Map<String, long[]> marks = new LinkedHashMap<>();
+
+    private StartupTiming() {
+        // Utility class
+    }
+
+    /**
+     * Records a startup milestone; only the first occurrence of each name is kept.
+     *
+     * @param name milestone name, e.g. "suite start"
+     */
+    public static synchronized void mark(String name) {
+        if (!marks.containsKey(name)) {
+            long compileMs = ManagementFactory.getCompilationMXBean().isCompilationTimeMonitoringSupported()
+                    ? ManagementFactory.getCompilationMXBean().getTotalCompilationTime() : -1;
+            marks.put(name, new long[]{
+                    ManagementFactory.getRuntimeMXBean().getUptime(),
+                    ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount(),
+                    compileMs});
+        }
+    }
+
+    /**
+     * Renders the recorded milestones as a table.
+     *
+     * @return the startup report, or an empty string if nothing was marked
+     */
+    public static synchronized String report() {
+        if (marks.isEmpty()) {
+            return "";
+        }
+        StringBuilder table = new StringBuilder();
+        table.append("Class-data sharing: ").append(cdsMode()).append(System.lineSeparator());
+        table.append(String.format("%-16s %12s %10s %10s%n", "Milestone", "Since JVM ms", "Classes", "JIT ms"));
+        marks.forEach((name, values) ->
+                table.append(String.format("%-16s %12d %10d %10d%n", name, values[0], values[1], values[2])));
+        return table.toString();
+    }
+
+    /**
+     * Appends this run's startup timings to the history file.
+     */
+    public static synchronized void appendHistory() {
+        long[] suiteStart = marks.get("suite start");
+        long[] firstTest = marks.get("first test");
+        if (suiteStart == null || firstTest == null) {
+            return;
+        }
+        Path file = Path.of(AppConfig.getProperty("ambient.startup.history.file", ".ambient/startup-history.csv"));
+        String row = String.join(",", Instant.now().toString(), cdsMode(),
+                String.valueOf(suiteStart[0]), String.valueOf(firstTest[0]), String.valueOf(firstTest[1]));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.notExists(file)) {
+                Files.writeString(file, CSV_HEADER + System.lineSeparator());
+            }
+            Files.writeString(file, row + System.lineSeparator(), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Could not append startup history to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Describes the class-data sharing setup: the JDK default archive, an application archive in use,
+     * or an archive being recorded by this run.
+     */
+    private static String cdsMode() {
+        HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        if (hotSpot == null) {
+            return "unknown";
+        }
+        if (!hotSpot.getVMOption("ArchiveClassesAtExit").getValue().isEmpty()) {
+            return "appcds-train";
+        }
+        boolean sharing = Boolean.parseBoolean(hotSpot.getVMOption("UseSharedSpaces").getValue());
+        if (!hotSpot.getVMOption("SharedArchiveFile").getValue().isEmpty()) {
+            // A missing or unreadable archive silently turns sharing off altogether
+            return sharing ? "appcds" : "appcds-unavailable";
+        }
+        return sharing ? "default" : "off";
+    }
+}
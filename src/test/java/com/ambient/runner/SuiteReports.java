@@ -0,0 +1,98 @@
+package com.ambient.runner;
+
+import com.ambient.api.client.AdaptivePoller;
+import com.ambient.api.client.CircuitBreaker;
+import com.ambient.api.client.LatencyRecorder;
+import com.ambient.api.client.SlaResult;
+import com.ambient.ui.BrowserPool;
+import com.ambient.ui.DriverFactory;
+import com.ambient.ui.artifacts.FailureArtifacts;
+import com.ambient.ui.perf.FrontendPerformance;
+import com.ambient.ui.perf.LocatorProfiler;
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Publishes the run-level reports at suite end: each non-empty report is logged and attached to Allure.
+ *
+ * <p>Called from {@code AbstractTest}'s {@code @AfterSuite}, because Allure only accepts attachments while a
+ * fixture is running; a suite listener's {@code onFinish} comes too late. Browser reports are skipped when the run
+ * never started a browser session, so API-only runs do not touch Selenium.</p>
+ */
+@Slf4j
+public class SuiteReports {
+
+    private SuiteReports() {
+        // Utility class
+    }
+
+    /**
+     * Publishes every run-level report and flushes the state kept across runs.
+     *
+     * @param slaResults API latency results, evaluated by the caller before suite cleanup makes its own calls
+     */
+    public static void publish(List<SlaResult> slaResults) {
+        // How long the JVM took to reach the first test
+        if (attach("Startup timing", StartupTiming.report())) {
+            StartupTiming.appendHistory();
+        }
+        attach("API latency summary (ms)", LatencyRecorder.toTable(slaResults));
+
+        boolean browsersUsed = DriverFactory.isUsed();
+        if (browsersUsed) {
+            // Quit pre-warmed browsers no test picked up before reporting how well pre-warming worked
+            BrowserPool.shutdown();
+            attach("Browser pre-warm", BrowserPool.report());
+        }
+
+        // How long API state took to catch up with UI actions, and circuits that opened
+        attach("API await summary", AdaptivePoller.summary());
+        warn("API circuit breakers", CircuitBreaker.summary());
+
+        if (browsersUsed) {
+            attach("Selenium Grid node usage", DriverFactory.backend().report());
+        }
+
+        // Flaky tests, then the quarantine update for the next run
+        warn("Flaky tests and quarantine", Quarantine.report());
+        Quarantine.save();
+
+        // Let queued failure artifacts finish writing before the report is generated
+        FailureArtifacts.awaitCompletion(30);
+
+        if (browsersUsed) {
+            // Attaches one report per page itself
+            LocatorProfiler.publish().forEach((page, report) -> log.info("\n{}", report));
+        }
+        attach("Frontend performance summary", FrontendPerformance.summary());
+    }
+
+    /**
+     * Logs a report and attaches it to Allure under its title.
+     *
+     * @param title  attachment name
+     * @param report report text, may be empty
+     * @return false if the report was empty and nothing was published
+     */
+    public static boolean attach(String title, String report) {
+        if (report == null || report.isEmpty()) {
+            return false;
+        }
+        log.info("{}:\n{}", title, report);
+        Allure.addAttachment(title, report);
+        return true;
+    }
+
+    /**
+     * Like {@link #attach(String, String)}, for reports that need attention, logged as warnings.
+     */
+    private static void warn(String title, String report) {
+        if (report == null || report.isEmpty()) {
+            return;
+        }
+        log.warn("{}:\n{}", title, report);
+        Allure.addAttachment(title, report);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ambient.runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Historical test durations read from previous Allure results.
+ *
+ * <p>Each {@code *-result.json} file carries the test's {@code fullName} and its {@code start}/{@code stop}
+ * timestamps; repeated runs of the same test are averaged.</p>
+ */
+@Slf4j
+public class TestDurationHistory {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, Long> averageMillis;
+
+    private TestDurationHistory(Map<String, Long> averageMillis) {
+        this.averageMillis = averageMillis;
+    }
+
+    /**
+     * Loads durations from an Allure results directory. A missing directory yields an empty history.
+     *
+     * @param resultsDir directory containing Allure {@code *-result.json} files
+     * @return the loaded history
+     */
+    public static TestDurationHistory fromAllureResults(Path resultsDir) {
+        Map<String, long[]> totals = new HashMap<>();
+        if (Files.isDirectory(resultsDir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(resultsDir, "*-result.json")) {
+                for (Path file : files) {
+                    readResult(file, totals);
+                }
+            } catch (IOException e) {
+                log.warn("Could not read Allure results from {}: {}", resultsDir, e.getMessage());
+            }
+        }
+        Map<String, Long> averages = new HashMap<>();
+        totals.forEach((name, sumAndCount) -> averages.put(name, sumAndCount[0] / sumAndCount[1]));
+        log.info("Loaded durations for {} tests from {}", averages.size(), resultsDir);
+        return new TestDurationHistory(averages);
+    }
+
+    /**
+     * Returns the average duration of a test, if it has run before.
+     *
+     * @param fullName fully qualified test method name
+     * @return average duration in milliseconds, or null when unknown
+     */
+    public Long getAverageMillis(String fullName) {
+        return averageMillis.get(fullName);
+    }
+
+    private static void readResult(Path file, Map<String, long[]> totals) {
+        try {
+            JsonNode result = MAPPER.readTree(file.toFile());
+            String fullName = result.path("fullName").asText(null);
+            long start = result.path("start").asLong(0);
+            long stop = result.path("stop").asLong(0);
+            if (fullName != null && stop > start) {
+                long[] sumAndCount = totals.computeIfAbsent(fullName, k -> new long[2]);
+                sumAndCount[0] += stop - start;
+                sumAndCount[1]++;
+            }
+        } catch (IOException e) {
+            log.debug("Skipping unreadable Allure result {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.ambient.runner;
+
+import com.ambient.ui.DriverFactory;
+import com.ambient.utils.config.AppConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.IAlterSuiteListener;
+import org.testng.annotations.DataProvider;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sizes the API and UI worker pools before the suite starts.
+ *
+ * <p>The suite runs its {@code <test>} blocks concurrently, each with its own thread pool. API tests are
+ * I/O-bound, so their pool is simply {@code ambient.workers.api} (default 8). Browser tests are capped by
+ * what the machine can sustain: the smallest of {@code ambient.workers.ui.max}, available cores divided by
+ * {@code ambient.workers.ui.cores.per.browser} and free memory divided by
+ * {@code ambient.workers.ui.memory.mb.per.browser}. When browsers run on a Selenium Grid
+ * ({@code ambient.ui.driver.backend=grid}) the local machine is not the limit and the UI pool matches the
+ * grid's capacity instead.</p>
+ *
+ * <p>A {@code <test>} is treated as a UI pool when its name contains "UI". Parallel data providers run their
+ * invocations on the suite's data provider pool, and each invocation drives its own browser. When a UI pool has
+ * a parallel data provider, the UI workers are therefore split between the two pools:
+ * {@code ambient.ui.scenarios.threads} data provider threads (default half of them) and the rest as method
+ * workers, so together they run no more browsers than the UI worker count. Each pool keeps at least one thread,
+ * so a single UI worker still yields two.</p>
+ *
+ * <p>Test methods in {@link Quarantine} are moved out of their {@code <test>} into a companion
+ * "(quarantine)" {@code <test>} with {@code ambient.workers.quarantine} threads (default 1). It runs in parallel
+ * with the other pools, adding its threads to theirs.</p>
+ */
+@Slf4j
+public class WorkerPoolSizer implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int apiWorkers = Math.max(1, AppConfig.getIntProperty("ambient.workers.api", 8));
+        // API-only runs never ask the browser backend (or a grid's /status) for its capacity
+        boolean uiPools = suites.stream().flatMap(suite -> suite.getTests().stream()).anyMatch(WorkerPoolSizer::isUiPool);
+        int uiWorkers = uiPools ? uiWorkers() : 1;
+
+        for (XmlSuite suite : suites) {
+            isolateQuarantined(suite);
+            suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(Math.max(1, suite.getTests().size()));
+            boolean dataDriven = suite.getTests().stream()
+                    .anyMatch(test -> isUiPool(test) && hasParallelDataProvider(test));
+            int scenarioThreads = dataDriven ? scenarioThreads(uiWorkers) : 1;
+            int uiMethodWorkers = dataDriven ? Math.max(1, uiWorkers - scenarioThreads) : uiWorkers;
+            suite.setDataProviderThreadCount(scenarioThreads);
+            if (dataDriven) {
+                log.info("Data provider pool: {} threads, leaving {} UI method workers", scenarioThreads, uiMethodWorkers);
+            }
+            for (XmlTest test : suite.getTests()) {
+                int workers = isQuarantinePool(test)
+                        ? Math.max(1, AppConfig.getIntProperty("ambient.workers.quarantine", 1))
+                        : isUiPool(test) ? uiMethodWorkers : apiWorkers;
+                test.setParallel(XmlSuite.ParallelMode.METHODS);
+                test.setThreadCount(workers);
+                log.info("Worker pool '{}': {} threads", test.getName(), workers);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of concurrent browser sessions the machine can sustain.
+     *
+     * @return UI worker count, at least 1
+     */
+    public static int uiWorkers() {
+        int gridCapacity = DriverFactory.backend().capacity();
+        if (gridCapacity > 0) {
+            log.info("UI workers: {} (Selenium Grid capacity)", gridCapacity);
+            return gridCapacity;
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        int coresPerBrowser = Math.max(1, AppConfig.getIntProperty("ambient.workers.ui.cores.per.browser", 1));
+        long memoryPerBrowserMb = Math.max(1, AppConfig.getIntProperty("ambient.workers.ui.memory.mb.per.browser", 1024));
+        int configuredMax = AppConfig.getIntProperty("ambient.workers.ui.max", 4);
+
+        long byCores = cores / coresPerBrowser;
+        long byMemory = freeMemoryMb() / memoryPerBrowserMb;
+        int workers = (int) Math.max(1, Math.min(configuredMax, Math.min(byCores, byMemory)));
+        log.info("UI workers: {} (max {}, cores allow {}, memory allows {})", workers, configuredMax, byCores, byMemory);
+        return workers;
+    }
+
+    /**
+     * Returns the data provider threads for a UI worker budget: {@code ambient.ui.scenarios.threads}, or half the
+     * budget, leaving at least one method worker when there is more than one.
+     */
+    private static int scenarioThreads(int uiWorkers) {
+        int configured = AppConfig.getIntProperty("ambient.ui.scenarios.threads", Math.max(1, uiWorkers / 2));
+        return Math.max(1, Math.min(configured, Math.max(1, uiWorkers - 1)));
+    }
+
+    /**
+     * Checks whether any class of a {@code <test>} declares a parallel data provider.
+     */
+    private static boolean hasParallelDataProvider(XmlTest test) {
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            Class<?> type = xmlClass.getSupportClass();
+            for (; type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Method method : type.getDeclaredMethods()) {
+                    DataProvider provider = method.getAnnotation(DataProvider.class);
+                    if (provider != null && provider.parallel()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves quarantined methods from each {@code <test>} into a companion quarantine {@code <test>}.
+     */
+    private static void isolateQuarantined(XmlSuite suite) {
+        Set<String> quarantined = Quarantine.quarantined();
+        if (quarantined.isEmpty()) {
+            return;
+        }
+        for (XmlTest test : new ArrayList<>(suite.getTests())) {
+            List<XmlClass> isolated = new ArrayList<>();
+            for (XmlClass xmlClass : new ArrayList<>(test.getXmlClasses())) {
+                List<String> methods = new ArrayList<>();
+                for (String name : quarantined) {
+                    int dot = name.lastIndexOf('.');
+                    if (name.substring(0, dot).equals(xmlClass.getName()) && isSelected(xmlClass, name.substring(dot + 1))) {
+                        methods.add(name.substring(dot + 1));
+                    }
+                }
+                if (methods.isEmpty()) {
+                    continue;
+                }
+                XmlClass copy = new XmlClass(xmlClass.getName());
+                methods.forEach(method -> copy.getIncludedMethods().add(new XmlInclude(method)));
+                isolated.add(copy);
+                if (xmlClass.getIncludedMethods().isEmpty()) {
+                    xmlClass.getExcludedMethods().addAll(methods);
+                } else {
+                    xmlClass.getIncludedMethods().removeIf(include -> methods.contains(include.getName()));
+                    if (xmlClass.getIncludedMethods().isEmpty()) {
+                        // Every listed method is quarantined; an empty include list would select all of them
+                        test.getXmlClasses().remove(xmlClass);
+                    }
+                }
+            }
+            if (isolated.isEmpty()) {
+                continue;
+            }
+            if (test.getXmlClasses().isEmpty()) {
+                suite.getTests().remove(test);
+            }
+            XmlTest quarantine = new XmlTest(suite);
+            quarantine.setName(test.getName() + " (quarantine)");
+            quarantine.setParameters(test.getLocalParameters());
+            quarantine.setIncludedGroups(test.getIncludedGroups());
+            quarantine.setExcludedGroups(test.getExcludedGroups());
+            quarantine.setXmlClasses(isolated);
+            log.info("Quarantined in '{}': {}", quarantine.getName(), isolated.stream()
+                    .flatMap(xmlClass -> xmlClass.getIncludedMethods().stream())
+                    .map(XmlInclude::getName)
+                    .toList());
+        }
+    }
+
+    /**
+     * Checks whether a {@code <class>} element would run the method: it is listed among the includes, or there are
+     * no includes.
+     */
+    private static boolean isSelected(XmlClass xmlClass, String method) {
+        List<XmlInclude> includes = xmlClass.getIncludedMethods();
+        return includes.isEmpty() || includes.stream().anyMatch(include -> include.getName().equals(method));
+    }
+
+    private static boolean isQuarantinePool(XmlTest test) {
+        return test.getName().endsWith("(quarantine)");
+    }
+
+    private static boolean isUiPool(XmlTest test) {
+        return test.getName().contains("UI");
+    }
+
+    private static long freeMemoryMb() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getFreeMemorySize() / (1024 * 1024);
+        }
+        return Long.MAX_VALUE;
+    }
+}
@@ -2,6 +2,10 @@ package com.ambient.tests.api;
 
 import com.ambient.AbstractTest;
 import com.ambient.api.models.Appointments;
+import com.ambient.api.models.Item;
+import com.ambient.ui.models.AppointmentRequest;
+import com.ambient.utils.data.DateTimeHelper;
+import com.ambient.utils.data.NameHelper;
 import io.qameta.allure.*;
 import lombok.extern.slf4j.Slf4j;
 import org.testng.annotations.Test;
@@ -11,7 +15,8 @@ import static org.testng.Assert.*;
 /**
  * API Test suite for validating the core functionalities of the Ambient backend service.
  *
- * <p>Includes coverage for appointment data retrieval through API queries.</p>
+ * <p>Includes coverage for appointment data retrieval through API queries and
+ * API-driven appointment seeding.</p>
  */
 @Epic("Ambient API Validation")
 @Feature("Core API Testing")
@@ -47,4 +52,38 @@ public class AmbientAPITests extends AbstractTest {
             fail("Exception during getAppointmentsQueryTest: " + e.getMessage());
         }
     }
+
+    /**
+     * Regression test to verify that appointments can be seeded and removed through the API
+     * without going through the UI form.
+     */
+    @Test(groups = {"regression"})
+    @Story("Appointment Seeding")
+    @Description("Verify appointments can be created and deleted via the API")
+    @Severity(SeverityLevel.CRITICAL)
+    public void createAndDeleteAppointmentTest() {
+        AppointmentRequest appointmentRequest = AppointmentRequest.builder()
+                .patientName(NameHelper.generateRandomFullName())
+                .startTime(DateTimeHelper.getCurrentDateTimeInIsoFormat())
+                .endTime(DateTimeHelper.getDateTimePlus30MinutesInIsoFormat())
+                .notes(NameHelper.generateNotes())
+                .build();
+
+        // Step: Seed the appointment via API
+        Item created = Allure.step("Create appointment", () ->
+                api().getAppointmentService().createAppointment(appointmentRequest)
+        );
+
+        Allure.step("Validate created appointment", () -> {
+            assertNotNull(created, "Created appointment should not be null");
+            assertNotNull(created.getId(), "Created appointment should have an id");
+            assertEquals(created.getPatient_name(), appointmentRequest.getPatientName());
+        });
+
+        // Step: Remove the seeded appointment again
+        Allure.step("Delete appointment", () ->
+                assertTrue(api().getAppointmentService().deleteAppointment(created.getId()),
+                        "Appointment should be deleted")
+        );
+    }
 }
@@ -2,13 +2,18 @@ package com.ambient.tests.ui;
 
 import com.ambient.AbstractTest;
 import com.ambient.ui.models.AppointmentRequest;
+import com.ambient.ui.models.AppointmentScenario;
 import com.ambient.ui.pages.AmbientLandingPage;
-import com.ambient.utils.config.DateTimeHelper;
-import com.ambient.utils.config.NameHelper;
+import com.ambient.utils.data.AppointmentScenarios;
+import com.ambient.utils.data.DateTimeHelper;
+import com.ambient.utils.data.NameHelper;
 import io.qameta.allure.*;
 import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
+
 /**
  * UI Test suite for validating core functionality of the Ambient web application.
  *
@@ -54,5 +59,43 @@ public class AmbientUITests extends AbstractTest {
                 .createAppointment(appointmentRequest)
                 .validateAppointmentConfirmed(appointmentRequest.getPatientName())
                 .clickOnBackButton();
+
+        // Cross-check through the API once the new appointment has propagated to the backend
+        api().getAppointmentService().awaitAppointmentFor(appointmentRequest.getPatientName());
+    }
+
+    /**
+     * Streams generated appointment scenarios to {@link #createAppointmentScenarioTest(AppointmentScenario)}.
+     * Invocations run in parallel on the suite's data provider threads, sized by {@code WorkerPoolSizer}.
+     *
+     * @return an iterator creating each scenario on demand
+     */
+    @DataProvider(name = "appointmentScenarios", parallel = true)
+    public Iterator<Object[]> appointmentScenarios() {
+        return AppointmentScenarios.stream(AppointmentScenarios.seed(), AppointmentScenarios.count());
+    }
+
+    /**
+     * Data-driven regression test submitting generated appointments: edge-case names, long notes and
+     * calendar-boundary times.
+     *
+     * <p>Scale with {@code -Dambient.ui.scenarios.count}; reproduce a failure with the same
+     * {@code ambient.ui.scenarios.seed} and {@code ambient.ui.scenarios.base.date}.</p>
+     *
+     * @param scenario the generated scenario
+     */
+    @Test(dataProvider = "appointmentScenarios", groups = {"regression"})
+    @Story("New Appointment Creation")
+    @Description("Verify appointment creation with generated edge-case data")
+    @Severity(SeverityLevel.NORMAL)
+    public void createAppointmentScenarioTest(AppointmentScenario scenario) {
+        AppointmentRequest appointmentRequest = scenario.toRequest();
+        log.info("Scenario {} (seed {}): {}", scenario, scenario.getSeed(), appointmentRequest.getPatientName());
+
+        web()
+                .open(AmbientLandingPage.class)
+                .clickOnNewButton()
+                .createAppointment(appointmentRequest)
+                .validateAppointmentConfirmed(appointmentRequest.getPatientName());
     }
 }
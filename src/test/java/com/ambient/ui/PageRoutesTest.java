@@ -0,0 +1,93 @@
+package com.ambient.ui;
+
+import com.ambient.ui.pages.BasePage;
+import com.ambient.ui.pages.Route;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for {@link PageRoutes} placeholder substitution, encoding and route overrides.
+ */
+public class PageRoutesTest {
+
+    private static final String BASE_URL = "https://ambient.test/app/";
+    private static final BinaryOperator<String> NO_OVERRIDES = (key, defaultValue) -> defaultValue;
+
+    @Test
+    public void substitutesPlaceholdersInOrder() {
+        assertEquals(url(PatientPage.class, null, 42, "notes"), "https://ambient.test/app/patients/42/visits/notes");
+    }
+
+    @Test
+    public void encodesPathAndQueryValues() {
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("q", "Jane Doe & co");
+        query.put("skipped", null);
+        query.put("date", "2026-10-19");
+
+        assertEquals(url(PatientPage.class, query, "O'Brien/Jr", "a b"),
+                "https://ambient.test/app/patients/O%27Brien%2FJr/visits/a%20b?q=Jane%20Doe%20%26%20co&date=2026-10-19");
+    }
+
+    @Test
+    public void rejectsMissingPathParameters() {
+        IllegalArgumentException error = expectThrows(IllegalArgumentException.class,
+                () -> url(PatientPage.class, null, 42));
+        assertTrue(error.getMessage().contains("more placeholders than the 1 path parameter(s)"), error.getMessage());
+    }
+
+    @Test
+    public void rejectsExtraPathParameters() {
+        IllegalArgumentException error = expectThrows(IllegalArgumentException.class,
+                () -> url(PatientPage.class, null, 42, "notes", "extra"));
+        assertTrue(error.getMessage().contains("takes 2 path parameter(s), got 3"), error.getMessage());
+    }
+
+    @Test
+    public void rejectsPagesWithoutRoute() {
+        expectThrows(IllegalArgumentException.class, () -> PageRoutes.template(UnroutedPage.class, NO_OVERRIDES));
+    }
+
+    @Test
+    public void configuredRouteOverridesTheAnnotation() {
+        Map<String, String> config = Map.of(
+                "ambient.ui.route.UnroutedPage", "/appointments/new",
+                "ambient.ui.route.PatientPage", "/p/{id}/{tab}");
+        BinaryOperator<String> properties = config::getOrDefault;
+
+        assertEquals(PageRoutes.template(UnroutedPage.class, properties), "/appointments/new");
+        assertEquals(PageRoutes.template(PatientPage.class, properties), "/p/{id}/{tab}");
+        assertEquals(PageRoutes.url(BASE_URL, PageRoutes.template(PatientPage.class, properties), PatientPage.class,
+                Map.of(), 7, "notes"), "https://ambient.test/app/p/7/notes");
+    }
+
+    @Test
+    public void joinsWithExactlyOneSlash() {
+        assertEquals(PageRoutes.join("https://ambient.test", "appointments"), "https://ambient.test/appointments");
+        assertEquals(PageRoutes.join("https://ambient.test/", "/appointments"), "https://ambient.test/appointments");
+        assertEquals(PageRoutes.join("https://ambient.test/", "/"), "https://ambient.test/");
+    }
+
+    private static String url(Class<? extends BasePage> page, Map<String, ?> query, Object... pathParameters) {
+        return PageRoutes.url(BASE_URL, PageRoutes.template(page, NO_OVERRIDES), page, query, pathParameters);
+    }
+
+    @Route("/patients/{id}/visits/{tab}")
+    private static class PatientPage extends BasePage {
+        PatientPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+
+    private static class UnroutedPage extends BasePage {
+        UnroutedPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ambient.ui.pages;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for {@link BasePage#xpathLiteral(String)} quoting.
+ */
+public class BasePageTest {
+
+    @Test
+    public void usesSingleQuotesByDefault() {
+        assertEquals(BasePage.xpathLiteral("Jane Doe"), "'Jane Doe'");
+    }
+
+    @Test
+    public void usesDoubleQuotesAroundApostrophes() {
+        assertEquals(BasePage.xpathLiteral("O'Brien"), "\"O'Brien\"");
+    }
+
+    @Test
+    public void concatenatesWhenBothQuotesAppear() {
+        assertEquals(BasePage.xpathLiteral("Dwayne \"The Rock\" O'Brien"),
+                "concat('Dwayne \"The Rock\" O', \"'\", 'Brien')");
+    }
+
+    @Test
+    public void concatenatesEveryApostrophe() {
+        assertEquals(BasePage.xpathLiteral("'\"'"), "concat('', \"'\", '\"', \"'\", '')");
+    }
+}